@@ -0,0 +1,100 @@
+package com.mentoai.mentoai.benchmark;
+
+import com.mentoai.mentoai.service.GeminiService;
+import com.mentoai.mentoai.service.vector.Embedding;
+import com.mentoai.mentoai.service.vector.VectorOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질의 1개와 후보 N개의 유사도 계산 비교
+ * List<Double> 코사인(GeminiService) vs 정규화 float[] 내적(스칼라/SIMD)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingSimilarityBenchmark {
+
+    @Param({"768"})
+    private int dimension;
+
+    @Param({"1000", "10000"})
+    private int candidates;
+
+    private final GeminiService geminiService = new GeminiService(null, null);
+
+    private List<Double> queryList;
+    private List<List<Double>> candidateLists;
+    private Embedding queryEmbedding;
+    private Embedding[] candidateEmbeddings;
+    private float[] queryArray;
+    private float[][] candidateArrays;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        queryList = randomVector(random);
+        candidateLists = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            candidateLists.add(randomVector(random));
+        }
+
+        queryEmbedding = Embedding.of(queryList);
+        queryArray = queryEmbedding.toArray();
+        candidateEmbeddings = new Embedding[candidates];
+        candidateArrays = new float[candidates][];
+        for (int i = 0; i < candidates; i++) {
+            candidateEmbeddings[i] = Embedding.of(candidateLists.get(i));
+            candidateArrays[i] = candidateEmbeddings[i].toArray();
+        }
+    }
+
+    @Benchmark
+    public double listDoubleCosine() {
+        double best = -1.0;
+        for (List<Double> candidate : candidateLists) {
+            best = Math.max(best, geminiService.cosineSimilarity(queryList, candidate));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public double floatScalarDot() {
+        double best = -1.0;
+        for (float[] candidate : candidateArrays) {
+            best = Math.max(best, VectorOps.dotScalar(queryArray, candidate));
+        }
+        return best;
+    }
+
+    @Benchmark
+    public double embeddingSimilarity() {
+        // jdk.incubator.vector 모듈이 로드되어 있으면 SIMD 경로
+        double best = -1.0;
+        for (Embedding candidate : candidateEmbeddings) {
+            best = Math.max(best, queryEmbedding.similarity(candidate));
+        }
+        return best;
+    }
+
+    private List<Double> randomVector(Random random) {
+        List<Double> vector = new ArrayList<>(dimension);
+        for (int i = 0; i < dimension; i++) {
+            vector.add(random.nextGaussian());
+        }
+        return vector;
+    }
+}
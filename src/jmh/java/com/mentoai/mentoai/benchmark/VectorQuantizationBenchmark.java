@@ -0,0 +1,154 @@
+package com.mentoai.mentoai.benchmark;
+
+import com.mentoai.mentoai.service.vector.Embedding;
+import com.mentoai.mentoai.service.vector.HnswIndex;
+import com.mentoai.mentoai.service.vector.ProductQuantizer;
+import com.mentoai.mentoai.service.vector.ScalarQuantizer;
+import com.mentoai.mentoai.service.vector.VectorQuantizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 양자화 모드별 검색 지연시간, recall@10, 활동당 벡터 바이트 수 비교
+ * recall과 바이트 수는 Setup 단계에서 표준 출력으로 보고한다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=VectorQuantizationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorQuantizationBenchmark {
+
+    private static final int DIMENSION = 768;
+    private static final int K = 10;
+    private static final int QUERIES = 200;
+
+    @Param({"none", "int8", "pq"})
+    private String mode;
+
+    @Param({"5000"})
+    private int activities;
+
+    @Param({"4"})
+    private int rerankFactor;
+
+    @Param({"96"})
+    private int pqSubspaces;
+
+    private float[][] vectors;
+    private Embedding[] queries;
+    private HnswIndex index;
+    private int queryCursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = clusteredVectors(random);
+        queries = new Embedding[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            float[] query = vectors[random.nextInt(activities)].clone();
+            for (int i = 0; i < DIMENSION; i++) {
+                query[i] += (float) random.nextGaussian() * 0.02f;
+            }
+            queries[q] = Embedding.of(query);
+        }
+
+        index = new HnswIndex(16, 200, 42L, quantizer());
+        for (int i = 0; i < activities; i++) {
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+
+        double recall = 0.0;
+        for (Embedding query : queries) {
+            Set<Long> expected = exactTopK(query);
+            for (HnswIndex.SearchResult result : search(query)) {
+                if (expected.contains(result.id())) {
+                    recall += 1.0 / K;
+                }
+            }
+        }
+        System.out.printf("%nmode=%s recall@%d=%.3f bytes/activity=%.0f (float=%d)%n",
+                mode, K, recall / QUERIES, index.heapBytesPerVector(), DIMENSION * Float.BYTES);
+    }
+
+    @Benchmark
+    public List<HnswIndex.SearchResult> searchWithRerank() {
+        Embedding query = queries[queryCursor++ % QUERIES];
+        return search(query);
+    }
+
+    // 양자화 모드는 rerankFactor배 후보를 뽑고 원본 벡터로 재정렬
+    private List<HnswIndex.SearchResult> search(Embedding query) {
+        if (!index.isQuantized()) {
+            return index.search(query, K, 64);
+        }
+        int candidates = K * rerankFactor;
+        List<HnswIndex.SearchResult> reranked = new ArrayList<>(candidates);
+        for (HnswIndex.SearchResult result : index.search(query, candidates, Math.max(64, candidates))) {
+            double exact = query.similarity(Embedding.of(vectors[(int) result.id()]));
+            reranked.add(new HnswIndex.SearchResult(result.id(), exact));
+        }
+        reranked.sort(Comparator.comparingDouble(HnswIndex.SearchResult::similarity).reversed());
+        return reranked.subList(0, Math.min(K, reranked.size()));
+    }
+
+    private VectorQuantizer quantizer() {
+        return switch (mode) {
+            case "int8" -> new ScalarQuantizer();
+            case "pq" -> {
+                List<float[]> sample = new ArrayList<>();
+                for (int i = 0; i < Math.min(activities, 2000); i++) {
+                    sample.add(Embedding.of(vectors[i]).toArray());
+                }
+                yield ProductQuantizer.train(sample, pqSubspaces, 8, 42L);
+            }
+            default -> null;
+        };
+    }
+
+    private Set<Long> exactTopK(Embedding query) {
+        List<HnswIndex.SearchResult> all = new ArrayList<>(activities);
+        for (int i = 0; i < activities; i++) {
+            all.add(new HnswIndex.SearchResult(i, query.similarity(Embedding.of(vectors[i]))));
+        }
+        all.sort(Comparator.comparingDouble(HnswIndex.SearchResult::similarity).reversed());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < K; i++) {
+            ids.add(all.get(i).id());
+        }
+        return ids;
+    }
+
+    // 실제 임베딩처럼 주제별로 모인 분포 (군집 중심 + 잡음)
+    private float[][] clusteredVectors(Random random) {
+        int clusters = Math.max(1, activities / 100);
+        float[][] centers = new float[clusters][DIMENSION];
+        for (float[] center : centers) {
+            for (int i = 0; i < DIMENSION; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+        float[][] result = new float[activities][DIMENSION];
+        for (int a = 0; a < activities; a++) {
+            float[] center = centers[random.nextInt(clusters)];
+            for (int i = 0; i < DIMENSION; i++) {
+                result[a][i] = center[i] + (float) random.nextGaussian() * 0.7f;
+            }
+        }
+        return result;
+    }
+}
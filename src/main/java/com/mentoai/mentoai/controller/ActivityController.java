@@ -35,7 +35,7 @@ public class ActivityController {
     @Operation(summary = "활동 목록 조회", description = "필터/정렬을 포함한 활동 목록을 반환합니다. userId가 제공되면 사용자 맞춤 추천이 적용됩니다.")
     public ResponseEntity<PagedActivitiesResponse> listActivities(
             @Parameter(description = "사용자 ID (선택, 제공 시 맞춤 추천 적용)") @RequestParam(required = false) Long userId,
-            @Parameter(description = "제목/내용 전체 검색어") @RequestParam(required = false) String q,
+            @Parameter(description = "제목/내용 전체 검색어 (지정 시 관련도 순 정렬)") @RequestParam(required = false) String q,
             @Parameter(description = "활동 유형 필터") @RequestParam(required = false) ActivityType type,
             @Parameter(description = "태그 이름(복수 지정 시 콤마 구분)") @RequestParam(required = false) String tag,
             @Parameter(description = "교내 활동 여부") @RequestParam(required = false) Boolean isCampus,
@@ -65,7 +65,7 @@ public class ActivityController {
             deadline = LocalDate.parse(deadlineBefore);
         }
 
-        Page<com.mentoai.mentoai.entity.ActivityEntity> result = activityService.getActivities(
+        Page<ActivitySummaryResponse> result = activityService.getActivities(
                 userId,
                 q,
                 type,
@@ -79,20 +79,51 @@ public class ActivityController {
                 direction
         );
 
-        List<ActivityResponse> items = result.stream()
-                .map(ActivityMapper::toResponse)
-                .toList();
-
         PagedActivitiesResponse response = new PagedActivitiesResponse(
                 result.getNumber() + 1,
                 result.getSize(),
                 result.getTotalElements(),
-                items
+                result.getContent()
         );
         
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Transactional(readOnly = true)
+    @Operation(summary = "활동 목록 커서 조회", description = "무한 스크롤용 커서 기반 목록을 반환합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    public ResponseEntity<CursorActivitiesResponse> scrollActivities(
+            @Parameter(description = "활동 유형 필터") @RequestParam(required = false) ActivityType type,
+            @Parameter(description = "태그 이름(복수 지정 시 콤마 구분)") @RequestParam(required = false) String tag,
+            @Parameter(description = "교내 활동 여부") @RequestParam(required = false) Boolean isCampus,
+            @Parameter(description = "활동 상태") @RequestParam(required = false) ActivityStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(description = "정렬 키 (createdAt, title)") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "전체 건수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        List<String> tagNames = null;
+        if (tag != null && !tag.trim().isEmpty()) {
+            tagNames = Arrays.asList(tag.split(","));
+        }
+        
+        String[] sortParts = sort.split(",", 2);
+        ActivityService.ActivityScroll result = activityService.scrollActivities(
+                type,
+                tagNames,
+                isCampus,
+                status,
+                sortParts[0],
+                sortParts.length > 1 ? sortParts[1] : "desc",
+                cursor,
+                size,
+                includeTotal
+        );
+        
+        return ResponseEntity.ok(new CursorActivitiesResponse(
+                result.items().size(), result.nextCursor(), result.totalElements(), result.items()));
+    }
+
     @PostMapping
     @Operation(summary = "활동 생성", description = "새로운 활동을 생성합니다.")
     public ResponseEntity<ActivityResponse> createActivity(@Valid @RequestBody ActivityUpsertRequest request) {
@@ -1,5 +1,6 @@
 package com.mentoai.mentoai.controller;
 
+import com.mentoai.mentoai.service.ActivityEmbeddingIndexer;
 import com.mentoai.mentoai.service.IngestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +22,7 @@ import java.util.Map;
 public class IngestController {
 
     private final IngestService ingestService;
+    private final ActivityEmbeddingIndexer activityEmbeddingIndexer;
 
     @PostMapping("/trigger")
     @Operation(summary = "수집 파이프라인 트리거", description = "관리자용. 특정 소스 재수집 또는 전체 동기화를 트리거합니다.")
@@ -69,6 +71,16 @@ public class IngestController {
         }
     }
 
+    @PostMapping("/embeddings/backfill")
+    @Operation(summary = "활동 임베딩 백필", description = "관리자용. 임베딩이 없는 활동의 임베딩을 비동기로 생성합니다.")
+    public ResponseEntity<Map<String, Object>> backfillEmbeddings() {
+        activityEmbeddingIndexer.backfill();
+        return ResponseEntity.status(202).body(Map.of(
+            "status", "started",
+            "timestamp", java.time.LocalDateTime.now()
+        ));
+    }
+
     @PostMapping("/campus")
     @Operation(summary = "교내 활동 수집", description = "교내 활동 데이터를 수집합니다.")
     public ResponseEntity<Map<String, Object>> ingestCampusActivities() {
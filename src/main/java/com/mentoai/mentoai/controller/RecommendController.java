@@ -1,8 +1,10 @@
 package com.mentoai.mentoai.controller;
 
 import com.mentoai.mentoai.controller.dto.ActivityRecommendationResponse;
+import com.mentoai.mentoai.controller.dto.ActivitySummaryResponse;
 import com.mentoai.mentoai.controller.dto.RecommendRequest;
 import com.mentoai.mentoai.controller.dto.RecommendResponse;
+import com.mentoai.mentoai.controller.mapper.ActivityMapper;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.service.RecommendService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,7 +42,7 @@ public class RecommendController {
 
     @GetMapping("/activities/{userId}")
     @Operation(summary = "사용자 맞춤 활동 추천", description = "사용자의 관심사와 프로필을 기반으로 활동을 추천합니다.")
-    public ResponseEntity<List<ActivityEntity>> getRecommendations(
+    public ResponseEntity<List<ActivitySummaryResponse>> getRecommendations(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "추천 개수") @RequestParam(defaultValue = "10") Integer limit,
             @Parameter(description = "활동 유형") @RequestParam(required = false) String type,
@@ -48,7 +50,7 @@ public class RecommendController {
         try {
             List<ActivityEntity> recommendations = recommendService.getRecommendations(
                     userId, limit, type, campusOnly);
-            return ResponseEntity.ok(recommendations);
+            return ResponseEntity.ok(toSummaries(recommendations));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -73,7 +75,7 @@ public class RecommendController {
 
     @PostMapping("/semantic-search")
     @Operation(summary = "의미 기반 검색", description = "자연어 쿼리를 기반으로 활동을 검색합니다.")
-    public ResponseEntity<List<ActivityEntity>> semanticSearch(
+    public ResponseEntity<List<ActivitySummaryResponse>> semanticSearch(
             @RequestBody Map<String, Object> searchRequest) {
         try {
             String query = (String) searchRequest.get("query");
@@ -81,7 +83,7 @@ public class RecommendController {
             String userId = (String) searchRequest.get("userId");
             
             List<ActivityEntity> results = recommendService.semanticSearch(query, limit, userId);
-            return ResponseEntity.ok(results);
+            return ResponseEntity.ok(toSummaries(results));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -89,12 +91,12 @@ public class RecommendController {
 
     @GetMapping("/trending")
     @Operation(summary = "인기 활동 조회", description = "현재 인기 있는 활동들을 조회합니다.")
-    public ResponseEntity<List<ActivityEntity>> getTrendingActivities(
+    public ResponseEntity<List<ActivitySummaryResponse>> getTrendingActivities(
             @Parameter(description = "조회 개수") @RequestParam(defaultValue = "10") Integer limit,
             @Parameter(description = "활동 유형") @RequestParam(required = false) String type) {
         try {
             List<ActivityEntity> trending = recommendService.getTrendingActivities(limit, type);
-            return ResponseEntity.ok(trending);
+            return ResponseEntity.ok(toSummaries(trending));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -102,14 +104,21 @@ public class RecommendController {
 
     @GetMapping("/similar/{activityId}")
     @Operation(summary = "유사 활동 추천", description = "특정 활동과 유사한 활동들을 추천합니다.")
-    public ResponseEntity<List<ActivityEntity>> getSimilarActivities(
+    public ResponseEntity<List<ActivitySummaryResponse>> getSimilarActivities(
             @Parameter(description = "활동 ID") @PathVariable Long activityId,
             @Parameter(description = "추천 개수") @RequestParam(defaultValue = "5") Integer limit) {
         try {
             List<ActivityEntity> similar = recommendService.getSimilarActivities(activityId, limit);
-            return ResponseEntity.ok(similar);
+            return ResponseEntity.ok(toSummaries(similar));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // 목록 응답은 요약만 반환 (상세는 GET /activities/{id})
+    private static List<ActivitySummaryResponse> toSummaries(List<ActivityEntity> activities) {
+        return activities.stream()
+                .map(ActivityMapper::toSummary)
+                .toList();
+    }
+}
@@ -49,6 +49,15 @@ public class RoleFitController {
         return ResponseEntity.ok(roleFitService.calculateRoleFitBatch(userId, request));
     }
 
+    @GetMapping("/role-fit/ranking")
+    @Operation(summary = "전체 직무 적합도 순위", description = "등록된 모든 직무에 대해 적합도를 계산해 상위 N개 직무를 세부 점수와 함께 반환합니다.")
+    public ResponseEntity<List<RoleFitResponse>> rankRoles(
+            @PathVariable Long userId,
+            @Parameter(description = "반환할 직무 수 (1~50)") @RequestParam(defaultValue = "5") Integer topN
+    ) {
+        return ResponseEntity.ok(roleFitService.rankRoles(userId, topN != null ? topN : 5));
+    }
+
     @PostMapping("/role-fit/simulate")
     @Operation(summary = "직무 적합도 시뮬레이션", description = "가상의 학습/경험을 추가했을 때 점수 변화를 예측합니다.")
     public ResponseEntity<RoleFitSimulationResponse> simulateRoleFit(
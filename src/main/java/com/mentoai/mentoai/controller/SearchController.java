@@ -44,7 +44,7 @@ public class SearchController {
                 buildQueryEmbedding(query),
                 results.stream()
                         .map(result -> new SemanticSearchResponse.ResultItem(
-                                ActivityMapper.toResponse(result.activity()),
+                                ActivityMapper.toSummary(result.activity()),
                                 result.score()
                         ))
                         .collect(Collectors.toList())
@@ -7,8 +7,8 @@ import com.mentoai.mentoai.controller.dto.UserProfileUpsertRequest;
 import com.mentoai.mentoai.entity.CalendarEventEntity;
 import com.mentoai.mentoai.entity.UserEntity;
 import com.mentoai.mentoai.entity.UserInterestEntity;
-import com.mentoai.mentoai.repository.TagRepository;
 import com.mentoai.mentoai.service.CalendarEventService;
+import com.mentoai.mentoai.service.ReferenceDataCache;
 import com.mentoai.mentoai.service.UserInterestService;
 import com.mentoai.mentoai.service.UserProfileService;
 import com.mentoai.mentoai.service.UserService;
@@ -42,7 +42,7 @@ public class UserController {
     private final UserInterestService userInterestService;
     private final UserProfileService userProfileService;
     private final CalendarEventService calendarEventService;
-    private final TagRepository tagRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @PostMapping
     @Operation(summary = "사용자 생성", description = "새로운 사용자를 생성합니다.")
@@ -80,9 +80,7 @@ public class UserController {
     }
     
     private com.mentoai.mentoai.controller.dto.UserInterestResponse toUserInterestResponse(UserInterestEntity entity) {
-        String tagName = tagRepository.findById(entity.getTagId())
-                .map(tag -> tag.getName())
-                .orElse("");
+        String tagName = referenceDataCache.tagName(entity.getTagId()).orElse("");
         // score (1-5)를 weight (0.0-1.0)로 변환
         Double weight = entity.getScore() != null ? entity.getScore() / 5.0 : 0.7;
         return new com.mentoai.mentoai.controller.dto.UserInterestResponse(tagName, weight);
@@ -0,0 +1,24 @@
+package com.mentoai.mentoai.controller.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록/추천용 활동 요약 (본문과 첨부 제외, 상세는 GET /activities/{id})
+ */
+public record ActivitySummaryResponse(
+        Long activityId,
+        String title,
+        String summary,
+        String type,
+        String organizer,
+        String location,
+        String url,
+        Boolean isCampus,
+        String status,
+        LocalDateTime publishedAt,
+        LocalDateTime createdAt,
+        List<ActivityDateResponse> dates,
+        List<TagResponse> tags
+) {
+}
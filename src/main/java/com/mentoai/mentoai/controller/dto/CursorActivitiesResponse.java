@@ -0,0 +1,11 @@
+package com.mentoai.mentoai.controller.dto;
+
+import java.util.List;
+
+public record CursorActivitiesResponse(
+        int size,
+        String nextCursor,
+        Long totalElements,
+        List<ActivitySummaryResponse> items
+) {
+}
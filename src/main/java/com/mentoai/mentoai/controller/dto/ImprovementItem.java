@@ -4,7 +4,7 @@ import java.util.List;
 
 public record ImprovementItem(
         String type,
-        ActivityResponse activity,
+        ActivitySummaryResponse activity,
         double expectedScoreDelta,
         List<String> affects,
         String reason
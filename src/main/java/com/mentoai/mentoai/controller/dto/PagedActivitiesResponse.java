@@ -6,7 +6,7 @@ public record PagedActivitiesResponse(
         int page,
         int size,
         long totalElements,
-        List<ActivityResponse> items
+        List<ActivitySummaryResponse> items
 ) {
 }
 
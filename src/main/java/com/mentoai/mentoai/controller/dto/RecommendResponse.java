@@ -6,7 +6,7 @@ public record RecommendResponse(
     List<RecommendItem> items
 ) {
     public record RecommendItem(
-        ActivityResponse activity,
+        ActivitySummaryResponse activity,
         Double score,
         String reason  // LLM 요약/근거
     ) {}
@@ -7,7 +7,7 @@ public record SemanticSearchResponse(
         List<ResultItem> results
 ) {
     public record ResultItem(
-            ActivityResponse activity,
+            ActivitySummaryResponse activity,
             double score
     ) {
     }
@@ -42,6 +42,27 @@ public final class ActivityMapper {
         );
     }
 
+    public static ActivitySummaryResponse toSummary(ActivityEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new ActivitySummaryResponse(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getSummary(),
+                entity.getType() != null ? entity.getType().name() : null,
+                entity.getOrganizer(),
+                entity.getLocation(),
+                entity.getUrl(),
+                entity.getIsCampus(),
+                entity.getStatus() != null ? entity.getStatus().name() : null,
+                entity.getPublishedAt(),
+                entity.getCreatedAt(),
+                mapDates(entity.getDates()),
+                mapTags(entity.getActivityTags())
+        );
+    }
+
     private static List<ActivityDateResponse> mapDates(List<ActivityDateEntity> dates) {
         if (dates == null) {
             return Collections.emptyList();
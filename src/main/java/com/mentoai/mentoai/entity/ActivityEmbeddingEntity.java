@@ -0,0 +1,44 @@
+package com.mentoai.mentoai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "activity_embeddings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActivityEmbeddingEntity {
+
+    @Id
+    @Column(name = "activity_id")
+    private Long activityId;
+
+    // 임베딩 입력 텍스트의 SHA-256 (내용이 바뀌지 않았으면 재계산 생략)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "dimension", nullable = false)
+    private Integer dimension;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "vector", nullable = false)
+    private float[] vector;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
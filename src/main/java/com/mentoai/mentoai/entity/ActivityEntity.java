@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,6 +19,9 @@ import java.util.List;
 @AllArgsConstructor
 public class ActivityEntity {
 
+    // 목록 응답 매핑 시 한 페이지의 하위 컬렉션을 컬렉션별 IN 쿼리 한 번으로 로딩 (페이지 최대 크기 기준)
+    public static final int BATCH_FETCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "activity_id")
@@ -68,14 +72,17 @@ public class ActivityEntity {
 
     @JsonIgnore
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = BATCH_FETCH_SIZE)
     private List<ActivityDateEntity> dates;
 
     @JsonIgnore
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = BATCH_FETCH_SIZE)
     private List<ActivityTagEntity> activityTags;
 
     @JsonIgnore
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = BATCH_FETCH_SIZE)
     private List<AttachmentEntity> attachments;
 
     public enum ActivityType {
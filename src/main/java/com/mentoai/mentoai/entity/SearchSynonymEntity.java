@@ -0,0 +1,27 @@
+package com.mentoai.mentoai.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "search_synonyms", uniqueConstraints = @UniqueConstraint(name = "uq_search_synonyms", columnNames = {"term", "synonym"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSynonymEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "synonym_id")
+    private Long id;
+
+    // 대표어 (예: 개발)
+    @Column(nullable = false)
+    private String term;
+
+    // 동의어/관련어 (예: 프로그래밍)
+    @Column(nullable = false)
+    private String synonym;
+}
@@ -4,12 +4,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Table(name = "tags", uniqueConstraints = @UniqueConstraint(name = "uq_tag", columnNames = {"tag_name", "tag_type"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@BatchSize(size = ActivityEntity.BATCH_FETCH_SIZE)
 public class TagEntity {
 
     @Id
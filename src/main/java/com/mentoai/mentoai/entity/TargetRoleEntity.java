@@ -10,6 +10,7 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -41,19 +42,28 @@ public class TargetRoleEntity {
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
+    // 직무 또는 스킬/전공/자격증 목록이 바뀔 때마다 증가 (컴파일된 스킬 인덱스 캐시 무효화 기준)
+    // 낙관적 잠금이 아니라 TargetRoleRepository.incrementVersion으로 저장 시 DB에서 직접 증가
+    @Column(name = "role_version", nullable = false)
+    private Long roleVersion = 0L;
+
     @ElementCollection
+    @BatchSize(size = ActivityEntity.BATCH_FETCH_SIZE)
     @CollectionTable(name = "target_role_required_skills", joinColumns = @JoinColumn(name = "role_id"))
     private List<WeightedSkill> requiredSkills = new ArrayList<>();
 
     @ElementCollection
+    @BatchSize(size = ActivityEntity.BATCH_FETCH_SIZE)
     @CollectionTable(name = "target_role_bonus_skills", joinColumns = @JoinColumn(name = "role_id"))
     private List<WeightedSkill> bonusSkills = new ArrayList<>();
 
     @ElementCollection
+    @BatchSize(size = ActivityEntity.BATCH_FETCH_SIZE)
     @CollectionTable(name = "target_role_major_mapping", joinColumns = @JoinColumn(name = "role_id"))
     private List<WeightedMajor> majorMapping = new ArrayList<>();
 
     @ElementCollection
+    @BatchSize(size = ActivityEntity.BATCH_FETCH_SIZE)
     @CollectionTable(name = "target_role_recommended_certs", joinColumns = @JoinColumn(name = "role_id"))
     @Column(name = "name")
     private List<String> recommendedCerts = new ArrayList<>();
@@ -0,0 +1,54 @@
+package com.mentoai.mentoai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "user_profile_embeddings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserProfileEmbeddingEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 임베딩 입력에 사용된 목표 직무 이름 (없으면 관심사만으로 계산)
+    @Column(name = "target_role")
+    private String targetRole;
+
+    // 임베딩 입력 텍스트의 SHA-256 (프로필이 바뀌지 않았으면 재계산 생략)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "model", nullable = false)
+    private String model;
+
+    @Column(name = "dimension", nullable = false)
+    private Integer dimension;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "vector", nullable = false)
+    private float[] vector;
+
+    // 재계산마다 증가 (동시에 실행된 재계산이 서로 덮어쓰지 않도록 낙관적 잠금에도 사용)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
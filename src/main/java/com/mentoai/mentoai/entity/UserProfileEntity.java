@@ -53,6 +53,11 @@ public class UserProfileEntity {
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
+    // 프로필 저장 시마다 증가 (RoleFit 결과 캐시 무효화 기준)
+    // 낙관적 잠금이 아니라 UserProfileRepository.incrementVersion으로 저장 시 DB에서 직접 증가
+    @Column(name = "profile_version", nullable = false)
+    private Long profileVersion = 0L;
+
     @ElementCollection
     @CollectionTable(name = "user_profile_interest_domains", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "domain_name")
@@ -0,0 +1,34 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.entity.ActivityEmbeddingEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ActivityEmbeddingRepository extends JpaRepository<ActivityEmbeddingEntity, Long> {
+
+    Slice<ActivityEmbeddingEntity> findByModel(String model, Pageable pageable);
+
+    @Query("SELECT e.activityId FROM ActivityEmbeddingEntity e WHERE e.model = :model")
+    List<Long> findActivityIdsByModel(@Param("model") String model);
+
+    @Query("SELECT e.activityId FROM ActivityEmbeddingEntity e WHERE e.model = :model AND e.updatedAt > :since")
+    List<Long> findActivityIdsUpdatedSince(@Param("model") String model, @Param("since") OffsetDateTime since);
+
+    // 임베딩이 없거나 다른 모델로 계산된 활동 ID 목록 (백필 대상)
+    @Query("""
+        SELECT a.id
+        FROM ActivityEntity a
+        WHERE NOT EXISTS (
+            SELECT 1 FROM ActivityEmbeddingEntity e
+            WHERE e.activityId = a.id AND e.model = :model
+        )
+        ORDER BY a.id
+        """)
+    List<Long> findActivityIdsWithoutEmbedding(@Param("model") String model);
+}
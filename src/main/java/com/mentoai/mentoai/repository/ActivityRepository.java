@@ -4,26 +4,25 @@ import com.mentoai.mentoai.entity.ActivityDateEntity;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
+import com.mentoai.mentoai.entity.TagEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ActivityRepository extends JpaRepository<ActivityEntity, Long> {
+public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>, ActivityScrollRepository {
     
-    @Query("""
-        SELECT DISTINCT a
-        FROM ActivityEntity a
-        LEFT JOIN a.activityTags at
-        LEFT JOIN at.tag t
-        LEFT JOIN a.dates d ON d.activity = a
-        WHERE
+    // 목록 검색 조건: 태그/마감일은 조인 대신 EXISTS로 확인하여 DISTINCT 없이 정렬/페이지/건수 조회
+    // (태그가 일치하고, 날짜가 없거나 해당 유형의 날짜가 있는 활동)
+    String SEARCH_FILTER = """
             (:q IS NULL OR :q = '' OR
              LOWER(a.title) LIKE LOWER(CONCAT('%', :q, '%')) OR
              LOWER(a.summary) LIKE LOWER(CONCAT('%', :q, '%')) OR
@@ -31,9 +30,15 @@ public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>
             (:type IS NULL OR a.type = :type) AND
             (:isCampus IS NULL OR a.isCampus = :isCampus) AND
             (:status IS NULL OR a.status = :status) AND
-            (:tagNames IS NULL OR t.name IN :tagNames) AND
-            (d.id IS NULL OR :deadlineType IS NULL OR d.dateType = :deadlineType)
-        """)
+            (:tagNames IS NULL OR EXISTS (
+                SELECT 1 FROM ActivityTagEntity at WHERE at.activity = a AND at.tag.name IN :tagNames)) AND
+            (:deadlineType IS NULL
+             OR NOT EXISTS (SELECT 1 FROM ActivityDateEntity d WHERE d.activity = a)
+             OR EXISTS (SELECT 1 FROM ActivityDateEntity d WHERE d.activity = a AND d.dateType = :deadlineType))
+        """;
+
+    @Query(value = "SELECT a FROM ActivityEntity a WHERE " + SEARCH_FILTER,
+            countQuery = "SELECT count(a) FROM ActivityEntity a WHERE " + SEARCH_FILTER)
     Page<ActivityEntity> search(
         @Param("q") String query,
         @Param("type") ActivityType type,
@@ -53,6 +58,29 @@ public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>
     
     boolean existsByTitle(String title);
 
+    // 전체 활동 순회용 (건수 조회 없이 페이지 단위로 읽음)
+    Slice<ActivityEntity> findAllBy(Pageable pageable);
+
+    // 카탈로그 스냅샷용 활동 속성 (엔티티 없이 스칼라 값만, 일정 수는 목록 노출 조건 판단용)
+    @Query("""
+        SELECT a.id AS id, a.type AS type, a.isCampus AS isCampus, a.status AS status,
+               (SELECT COUNT(d) FROM ActivityDateEntity d WHERE d.activity = a) AS dateCount,
+               (SELECT COUNT(d) FROM ActivityDateEntity d
+                WHERE d.activity = a
+                  AND d.dateType = com.mentoai.mentoai.entity.ActivityDateEntity.DateType.APPLY_END) AS applyEndCount
+        FROM ActivityEntity a
+        ORDER BY a.id
+        """)
+    List<CatalogRow> findCatalogRows();
+
+    // 카탈로그 스냅샷용 활동-태그 쌍 (활동 ID 순)
+    @Query("""
+        SELECT at.id.activityId AS activityId, at.id.tagId AS tagId
+        FROM ActivityTagEntity at
+        ORDER BY at.id.activityId, at.id.tagId
+        """)
+    List<CatalogTag> findCatalogTags();
+
     default Page<ActivityEntity> findByFilters(
             String query,
             ActivityType type,
@@ -73,4 +101,277 @@ public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>
     ) {
         return search(query, type, tagNames, isCampus, status, null, null, pageable);
     }
+
+    /**
+     * 전문 검색(search_vector GIN) + 제목 부분 일치(pg_trgm GIN) 기반 관련도 순 검색
+     * @param tsQuery to_tsquery 형식 검색식 (예: 백엔드:* & 인턴:*)
+     * @param titlePattern 제목 ILIKE 패턴 (%검색어%)
+     */
+    @Query(value = """
+        SELECT a.activity_id AS "activityId",
+               ts_rank_cd(a.search_vector, to_tsquery('simple', :tsQuery)) + similarity(a.title, :q) AS "rank"
+        FROM activities a
+        WHERE (a.search_vector @@ to_tsquery('simple', :tsQuery) OR a.title ILIKE :titlePattern)
+          AND (CAST(:type AS varchar) IS NULL OR a.type = CAST(:type AS varchar))
+          AND (CAST(:isCampus AS boolean) IS NULL OR a.is_campus = CAST(:isCampus AS boolean))
+          AND (CAST(:status AS varchar) IS NULL OR a.status = CAST(:status AS varchar))
+          AND (:hasTags = false OR EXISTS (
+                SELECT 1 FROM activity_tags at JOIN tags t ON t.tag_id = at.tag_id
+                WHERE at.activity_id = a.activity_id AND t.tag_name IN (:tagNames)))
+          AND (NOT EXISTS (SELECT 1 FROM activity_dates d WHERE d.activity_id = a.activity_id)
+               OR EXISTS (SELECT 1 FROM activity_dates d
+                          WHERE d.activity_id = a.activity_id AND d.date_type = 'APPLY_END'))
+        ORDER BY "rank" DESC, a.created_at DESC, a.activity_id DESC
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<RankedActivity> searchRanked(
+            @Param("q") String query,
+            @Param("tsQuery") String tsQuery,
+            @Param("titlePattern") String titlePattern,
+            @Param("type") String type,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") String status,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    @Query(value = """
+        SELECT count(*)
+        FROM activities a
+        WHERE (a.search_vector @@ to_tsquery('simple', :tsQuery) OR a.title ILIKE :titlePattern)
+          AND (CAST(:type AS varchar) IS NULL OR a.type = CAST(:type AS varchar))
+          AND (CAST(:isCampus AS boolean) IS NULL OR a.is_campus = CAST(:isCampus AS boolean))
+          AND (CAST(:status AS varchar) IS NULL OR a.status = CAST(:status AS varchar))
+          AND (:hasTags = false OR EXISTS (
+                SELECT 1 FROM activity_tags at JOIN tags t ON t.tag_id = at.tag_id
+                WHERE at.activity_id = a.activity_id AND t.tag_name IN (:tagNames)))
+          AND (NOT EXISTS (SELECT 1 FROM activity_dates d WHERE d.activity_id = a.activity_id)
+               OR EXISTS (SELECT 1 FROM activity_dates d
+                          WHERE d.activity_id = a.activity_id AND d.date_type = 'APPLY_END'))
+        """, nativeQuery = true)
+    long countRanked(
+            @Param("tsQuery") String tsQuery,
+            @Param("titlePattern") String titlePattern,
+            @Param("type") String type,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") String status,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames
+    );
+
+    /**
+     * 사용자 맞춤 순위 검색: 관심 태그 점수 합 × 10 + 유형 가산점(STUDY 5, CONTEST 3) + 캠퍼스 가산점 2
+     * @param pattern 제목/요약/내용 ILIKE 패턴 (%검색어%), null이면 조건 없음
+     * @param minScore 이 점수 미만인 활동 제외
+     */
+    @Query(value = """
+        SELECT s.activity_id AS "activityId", s.score AS "rank"
+        FROM (
+            SELECT a.activity_id, a.created_at,
+                   COALESCE(m.interest, 0) * 10
+                   + CASE a.type WHEN 'STUDY' THEN 5 WHEN 'CONTEST' THEN 3 ELSE 0 END
+                   + CASE WHEN a.is_campus THEN 2 ELSE 0 END AS score
+            FROM activities a
+            LEFT JOIN (
+                SELECT at.activity_id, SUM(ui.score) AS interest
+                FROM user_interests ui
+                JOIN activity_tags at ON at.tag_id = ui.tag_id
+                WHERE ui.user_id = :userId
+                GROUP BY at.activity_id
+            ) m ON m.activity_id = a.activity_id
+            WHERE (CAST(:pattern AS text) IS NULL OR a.title ILIKE CAST(:pattern AS text)
+                   OR a.summary ILIKE CAST(:pattern AS text) OR a.content ILIKE CAST(:pattern AS text))
+              AND (CAST(:type AS varchar) IS NULL OR a.type = CAST(:type AS varchar))
+              AND (CAST(:isCampus AS boolean) IS NULL OR a.is_campus = CAST(:isCampus AS boolean))
+              AND (CAST(:status AS varchar) IS NULL OR a.status = CAST(:status AS varchar))
+              AND (:hasTags = false OR EXISTS (
+                    SELECT 1 FROM activity_tags ft JOIN tags t ON t.tag_id = ft.tag_id
+                    WHERE ft.activity_id = a.activity_id AND t.tag_name IN (:tagNames)))
+              AND (NOT EXISTS (SELECT 1 FROM activity_dates d WHERE d.activity_id = a.activity_id)
+                   OR EXISTS (SELECT 1 FROM activity_dates d
+                              WHERE d.activity_id = a.activity_id AND d.date_type = 'APPLY_END'))
+        ) s
+        WHERE s.score >= :minScore
+        ORDER BY s.score DESC, s.created_at DESC, s.activity_id DESC
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<RankedActivity> searchPersonalized(
+            @Param("userId") Long userId,
+            @Param("pattern") String pattern,
+            @Param("type") String type,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") String status,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames,
+            @Param("minScore") double minScore,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    @Query(value = """
+        SELECT count(*)
+        FROM activities a
+        LEFT JOIN (
+            SELECT at.activity_id, SUM(ui.score) AS interest
+            FROM user_interests ui
+            JOIN activity_tags at ON at.tag_id = ui.tag_id
+            WHERE ui.user_id = :userId
+            GROUP BY at.activity_id
+        ) m ON m.activity_id = a.activity_id
+        WHERE (CAST(:pattern AS text) IS NULL OR a.title ILIKE CAST(:pattern AS text)
+               OR a.summary ILIKE CAST(:pattern AS text) OR a.content ILIKE CAST(:pattern AS text))
+          AND (CAST(:type AS varchar) IS NULL OR a.type = CAST(:type AS varchar))
+          AND (CAST(:isCampus AS boolean) IS NULL OR a.is_campus = CAST(:isCampus AS boolean))
+          AND (CAST(:status AS varchar) IS NULL OR a.status = CAST(:status AS varchar))
+          AND (:hasTags = false OR EXISTS (
+                SELECT 1 FROM activity_tags ft JOIN tags t ON t.tag_id = ft.tag_id
+                WHERE ft.activity_id = a.activity_id AND t.tag_name IN (:tagNames)))
+          AND (NOT EXISTS (SELECT 1 FROM activity_dates d WHERE d.activity_id = a.activity_id)
+               OR EXISTS (SELECT 1 FROM activity_dates d
+                          WHERE d.activity_id = a.activity_id AND d.date_type = 'APPLY_END'))
+          AND COALESCE(m.interest, 0) * 10
+              + CASE a.type WHEN 'STUDY' THEN 5 WHEN 'CONTEST' THEN 3 ELSE 0 END
+              + CASE WHEN a.is_campus THEN 2 ELSE 0 END >= :minScore
+        """, nativeQuery = true)
+    long countPersonalized(
+            @Param("userId") Long userId,
+            @Param("pattern") String pattern,
+            @Param("type") String type,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") String status,
+            @Param("hasTags") boolean hasTags,
+            @Param("tagNames") List<String> tagNames,
+            @Param("minScore") double minScore
+    );
+
+    /**
+     * 기본 목록용 ID 페이지 (search와 같은 조건, 엔티티 대신 ID만 정렬/페이지 적용)
+     */
+    @Query(value = "SELECT a.id FROM ActivityEntity a WHERE " + SEARCH_FILTER,
+            countQuery = "SELECT count(a) FROM ActivityEntity a WHERE " + SEARCH_FILTER)
+    Page<Long> searchIds(
+            @Param("q") String query,
+            @Param("type") ActivityType type,
+            @Param("tagNames") List<String> tagNames,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") ActivityStatus status,
+            @Param("deadlineType") ActivityDateEntity.DateType deadlineType,
+            Pageable pageable
+    );
+
+    // 건수 조회 없이 다음 페이지 존재 여부만 확인 (size + 1행 조회)
+    @Query("SELECT a.id FROM ActivityEntity a WHERE " + SEARCH_FILTER)
+    Slice<Long> searchIdSlice(
+            @Param("q") String query,
+            @Param("type") ActivityType type,
+            @Param("tagNames") List<String> tagNames,
+            @Param("isCampus") Boolean isCampus,
+            @Param("status") ActivityStatus status,
+            @Param("deadlineType") ActivityDateEntity.DateType deadlineType,
+            Pageable pageable
+    );
+
+    /**
+     * 통계 기반 활동 수 추정치 (ANALYZE/autovacuum 시점 기준, 통계가 없으면 -1)
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = 'activities'::regclass", nativeQuery = true)
+    long estimateActivityCount();
+
+    // 목록 요약용 스칼라 컬럼 (content, 첨부 제외)
+    @Query("""
+        SELECT a.id AS id, a.title AS title, a.summary AS summary, a.type AS type,
+               a.organizer AS organizer, a.location AS location, a.url AS url, a.isCampus AS isCampus,
+               a.status AS status, a.publishedAt AS publishedAt, a.createdAt AS createdAt
+        FROM ActivityEntity a
+        WHERE a.id IN :ids
+        """)
+    List<SummaryRow> findSummaryRows(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT d.activity.id AS activityId, d.id AS id, d.dateType AS dateType, d.dateValue AS dateValue
+        FROM ActivityDateEntity d
+        WHERE d.activity.id IN :ids
+        ORDER BY d.id
+        """)
+    List<SummaryDate> findSummaryDates(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT at.id.activityId AS activityId, t.id AS tagId, t.name AS name, t.type AS type
+        FROM ActivityTagEntity at
+        JOIN at.tag t
+        WHERE at.id.activityId IN :ids
+        """)
+    List<SummaryTag> findSummaryTags(@Param("ids") Collection<Long> ids);
+
+    interface CatalogRow {
+        Long getId();
+
+        ActivityType getType();
+
+        Boolean getIsCampus();
+
+        ActivityStatus getStatus();
+
+        long getDateCount();
+
+        long getApplyEndCount();
+    }
+
+    interface CatalogTag {
+        Long getActivityId();
+
+        Long getTagId();
+    }
+
+    interface SummaryRow {
+        Long getId();
+
+        String getTitle();
+
+        String getSummary();
+
+        ActivityType getType();
+
+        String getOrganizer();
+
+        String getLocation();
+
+        String getUrl();
+
+        Boolean getIsCampus();
+
+        ActivityStatus getStatus();
+
+        LocalDateTime getPublishedAt();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    interface SummaryDate {
+        Long getActivityId();
+
+        Long getId();
+
+        ActivityDateEntity.DateType getDateType();
+
+        LocalDateTime getDateValue();
+    }
+
+    interface SummaryTag {
+        Long getActivityId();
+
+        Long getTagId();
+
+        String getName();
+
+        TagEntity.TagType getType();
+    }
+
+    interface RankedActivity {
+        Long getActivityId();
+
+        Double getRank();
+    }
 }
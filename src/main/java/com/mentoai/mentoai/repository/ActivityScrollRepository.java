@@ -0,0 +1,63 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
+
+import java.util.List;
+
+/**
+ * 키셋(seek) 방식 활동 목록 조회
+ * (정렬 키, activity_id) 행 비교로 이전 페이지의 마지막 행 다음부터 읽으므로 페이지 깊이와 무관하게 일정한 비용이 든다.
+ */
+public interface ActivityScrollRepository {
+
+    /**
+     * 정렬 가능한 컬럼 화이트리스트 (각각 (컬럼, activity_id) 복합 인덱스 존재)
+     */
+    enum SortKey {
+        CREATED_AT("createdAt", "created_at"),
+        TITLE("title", "title");
+
+        private final String property;
+        private final String column;
+
+        SortKey(String property, String column) {
+            this.property = property;
+            this.column = column;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        String column() {
+            return column;
+        }
+
+        public static SortKey fromProperty(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 키입니다: " + property);
+        }
+    }
+
+    record Filter(ActivityType type, Boolean isCampus, ActivityStatus status, List<String> tagNames) {
+    }
+
+    /**
+     * @param sortKey 정렬 키 값 (CREATED_AT은 LocalDateTime, TITLE은 String)
+     */
+    record KeysetRow(Long activityId, Object sortKey) {
+    }
+
+    /**
+     * @param afterKey 이전 페이지 마지막 행의 정렬 키 값, null이면 첫 페이지
+     * @param afterId 이전 페이지 마지막 행의 activity_id
+     */
+    List<KeysetRow> scroll(Filter filter, SortKey sortKey, boolean descending, Object afterKey, Long afterId, int limit);
+
+    long countByFilter(Filter filter);
+}
@@ -0,0 +1,88 @@
+package com.mentoai.mentoai.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class ActivityScrollRepositoryImpl implements ActivityScrollRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<KeysetRow> scroll(Filter filter, SortKey sortKey, boolean descending, Object afterKey, Long afterId, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT a.activity_id, a.")
+                .append(sortKey.column())
+                .append(" FROM activities a WHERE ")
+                .append(where(filter, params));
+
+        // 행 값 비교로 (정렬 키, ID) 복합 인덱스를 그대로 탐색
+        if (afterKey != null) {
+            sql.append(" AND (a.").append(sortKey.column()).append(", a.activity_id) ")
+                    .append(descending ? "<" : ">")
+                    .append(" (:afterKey, :afterId)");
+            params.put("afterKey", afterKey);
+            params.put("afterId", afterId);
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        sql.append(" ORDER BY a.").append(sortKey.column()).append(direction)
+                .append(", a.activity_id").append(direction)
+                .append(" LIMIT :limit");
+        params.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        List<?> rows = query.getResultList();
+        List<KeysetRow> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            Object key = columns[1] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : columns[1];
+            result.add(new KeysetRow(((Number) columns[0]).longValue(), key));
+        }
+        return result;
+    }
+
+    @Override
+    public long countByFilter(Filter filter) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        Query query = entityManager.createNativeQuery("SELECT count(*) FROM activities a WHERE " + where(filter, params));
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    // 지정된 필터만 조건에 포함 (ActivityRepository.search와 같은 마감일 조건)
+    private static String where(Filter filter, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder("""
+                (NOT EXISTS (SELECT 1 FROM activity_dates d WHERE d.activity_id = a.activity_id)
+                 OR EXISTS (SELECT 1 FROM activity_dates d
+                            WHERE d.activity_id = a.activity_id AND d.date_type = 'APPLY_END'))""");
+        if (filter.type() != null) {
+            where.append(" AND a.type = :type");
+            params.put("type", filter.type().name());
+        }
+        if (filter.isCampus() != null) {
+            where.append(" AND a.is_campus = :isCampus");
+            params.put("isCampus", filter.isCampus());
+        }
+        if (filter.status() != null) {
+            where.append(" AND a.status = :status");
+            params.put("status", filter.status().name());
+        }
+        if (filter.tagNames() != null && !filter.tagNames().isEmpty()) {
+            where.append("""
+                     AND EXISTS (SELECT 1 FROM activity_tags at JOIN tags t ON t.tag_id = at.tag_id
+                                WHERE at.activity_id = a.activity_id AND t.tag_name IN (:tagNames))""");
+            params.put("tagNames", filter.tagNames());
+        }
+        return where.toString();
+    }
+}
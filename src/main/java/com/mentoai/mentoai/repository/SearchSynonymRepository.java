@@ -0,0 +1,9 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.entity.SearchSynonymEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SearchSynonymRepository extends JpaRepository<SearchSynonymEntity, Long> {
+}
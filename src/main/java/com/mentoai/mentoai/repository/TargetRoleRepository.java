@@ -2,6 +2,7 @@ package com.mentoai.mentoai.repository;
 
 import com.mentoai.mentoai.entity.TargetRoleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +15,11 @@ public interface TargetRoleRepository extends JpaRepository<TargetRoleEntity, St
     
     @Query("SELECT t FROM TargetRoleEntity t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(t.roleId) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<TargetRoleEntity> findByKeyword(@Param("keyword") String keyword);
+
+    // 동시 저장이 같은 버전을 쓰지 않도록 행 잠금 아래에서 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TargetRoleEntity t SET t.roleVersion = t.roleVersion + 1 WHERE t.roleId = :roleId")
+    int incrementVersion(@Param("roleId") String roleId);
 }
 
 
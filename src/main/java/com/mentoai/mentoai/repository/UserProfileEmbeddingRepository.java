@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.entity.UserProfileEmbeddingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserProfileEmbeddingRepository extends JpaRepository<UserProfileEmbeddingEntity, Long> {
+}
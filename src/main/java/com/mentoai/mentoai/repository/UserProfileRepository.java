@@ -2,10 +2,19 @@ package com.mentoai.mentoai.repository;
 
 import com.mentoai.mentoai.entity.UserProfileEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserProfileRepository extends JpaRepository<UserProfileEntity, Long> {
-}
-
+import java.util.List;
 
+public interface UserProfileRepository extends JpaRepository<UserProfileEntity, Long> {
 
+    // 동시 저장이 같은 버전을 쓰지 않도록 행 잠금 아래에서 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserProfileEntity p SET p.profileVersion = p.profileVersion + 1 WHERE p.userId = :userId")
+    int incrementVersion(@Param("userId") Long userId);
 
+    @Query("SELECT p.userId FROM UserProfileEntity p WHERE p.targetRoleId = :targetRoleId")
+    List<Long> findUserIdsByTargetRoleId(@Param("targetRoleId") String targetRoleId);
+}
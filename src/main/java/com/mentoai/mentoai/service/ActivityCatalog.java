@@ -0,0 +1,111 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.service.catalog.ActivityCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 개인화 추천용 활동 카탈로그 스냅샷 관리
+ * 기동 시 전체 활동의 스칼라 속성과 태그만 읽어 열 지향 스냅샷을 만들고,
+ * 활동 변경이 있으면 주기적으로 새 스냅샷을 만들어 통째로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityCatalog {
+
+    private final ActivityRepository activityRepository;
+
+    private volatile ActivityCatalogSnapshot snapshot = ActivityCatalogSnapshot.empty();
+    private volatile boolean ready = false;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * 기동 후 첫 스냅샷 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        refresh();
+    }
+
+    /**
+     * 커밋 이후 활동 변경 표시 (다음 주기에 다시 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityChanged(ActivityChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 변경이 있거나 아직 적재되지 않았으면 주기적으로 스냅샷 재생성
+     */
+    @Scheduled(fixedDelayString = "${catalog.refresh-interval-ms:60000}", initialDelayString = "${catalog.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        if (!ready || dirty.getAndSet(false)) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            ActivityCatalogSnapshot built = build(activityRepository.findCatalogRows(), activityRepository.findCatalogTags());
+            snapshot = built;
+            ready = true;
+            log.info("Activity catalog snapshot built: {} activities in {} ms", built.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("Failed to build activity catalog snapshot: {}", e.getMessage());
+        }
+    }
+
+    public ActivityCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 두 목록 모두 활동 ID 순이므로 한 번씩만 순회하며 병합 (조회 사이에 생긴 태그는 건너뜀)
+    static ActivityCatalogSnapshot build(List<ActivityRepository.CatalogRow> rows, List<ActivityRepository.CatalogTag> tags) {
+        ActivityCatalogSnapshot.Builder builder = ActivityCatalogSnapshot.builder(rows.size());
+        List<Long> activityTags = new ArrayList<>();
+        int tagIndex = 0;
+
+        for (ActivityRepository.CatalogRow row : rows) {
+            long id = row.getId();
+            while (tagIndex < tags.size() && tags.get(tagIndex).getActivityId() < id) {
+                tagIndex++;
+            }
+            activityTags.clear();
+            while (tagIndex < tags.size() && tags.get(tagIndex).getActivityId() == id) {
+                activityTags.add(tags.get(tagIndex).getTagId());
+                tagIndex++;
+            }
+
+            builder.add(
+                    id,
+                    row.getType().ordinal(),
+                    Boolean.TRUE.equals(row.getIsCampus()),
+                    row.getStatus().ordinal(),
+                    row.getDateCount() == 0 || row.getApplyEndCount() > 0,
+                    activityTags.stream().mapToLong(Long::longValue).toArray()
+            );
+        }
+        return builder.build();
+    }
+}
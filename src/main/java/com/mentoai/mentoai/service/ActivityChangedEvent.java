@@ -0,0 +1,25 @@
+package com.mentoai.mentoai.service;
+
+import java.util.List;
+
+/**
+ * 활동 생성/수정/삭제 후 발행되는 이벤트 (임베딩 등 파생 데이터 갱신용)
+ */
+public record ActivityChangedEvent(List<Long> activityIds, ChangeType type) {
+
+    public static ActivityChangedEvent upserted(Long activityId) {
+        return new ActivityChangedEvent(List.of(activityId), ChangeType.UPSERTED);
+    }
+
+    public static ActivityChangedEvent upserted(List<Long> activityIds) {
+        return new ActivityChangedEvent(List.copyOf(activityIds), ChangeType.UPSERTED);
+    }
+
+    public static ActivityChangedEvent deleted(Long activityId) {
+        return new ActivityChangedEvent(List.of(activityId), ChangeType.DELETED);
+    }
+
+    public enum ChangeType {
+        UPSERTED, DELETED
+    }
+}
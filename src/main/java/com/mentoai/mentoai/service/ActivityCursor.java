@@ -0,0 +1,46 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.repository.ActivityScrollRepository.SortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 커서: 정렬 조건과 마지막 행의 (정렬 키, activity_id)를 담은 불투명 문자열
+ * 형식: base64url("정렬키|방향|ID|정렬 키 값")
+ */
+public record ActivityCursor(SortKey sortKey, boolean descending, Object afterKey, Long afterId) {
+
+    public String encode() {
+        String raw = sortKey.property() + "|" + (descending ? "desc" : "asc") + "|" + afterId + "|" + afterKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석, 요청한 정렬 조건과 다르면 예외
+     */
+    public static ActivityCursor decode(String cursor, SortKey sortKey, boolean descending) {
+        String[] parts;
+        try {
+            // 정렬 키 값(제목)에 구분자가 있을 수 있으므로 마지막 필드로 둠
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        if (!sortKey.property().equals(parts[0]) || descending != "desc".equals(parts[1])) {
+            throw new IllegalArgumentException("정렬 조건과 일치하지 않는 커서입니다.");
+        }
+
+        try {
+            Object afterKey = sortKey == SortKey.CREATED_AT ? LocalDateTime.parse(parts[3]) : parts[3];
+            return new ActivityCursor(sortKey, descending, afterKey, Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
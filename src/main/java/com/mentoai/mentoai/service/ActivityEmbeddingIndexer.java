@@ -0,0 +1,82 @@
+package com.mentoai.mentoai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 활동 변경 이벤트를 받아 임베딩 저장소와 벡터 인덱스를 비동기로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityEmbeddingIndexer {
+
+    // 갱신 트랜잭션 단위 (내부에서 batchEmbedContents 요청으로 나뉘어 전송됨)
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final ActivityEmbeddingService activityEmbeddingService;
+    private final ActivityVectorIndex activityVectorIndex;
+
+    /**
+     * 커밋 이후 활동 임베딩 갱신 (트랜잭션 밖에서 저장된 수집 데이터도 처리)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityChanged(ActivityChangedEvent event) {
+        // 저장소의 삭제는 activity_embeddings FK(ON DELETE CASCADE)로 함께 정리됨
+        if (event.type() == ActivityChangedEvent.ChangeType.DELETED) {
+            activityVectorIndex.remove(event.activityIds());
+            return;
+        }
+        refreshInChunks(event.activityIds());
+    }
+
+    /**
+     * 검색 중 발견된 임베딩 누락 활동을 비동기로 채움
+     */
+    @Async
+    public void refreshAsync(Collection<Long> activityIds) {
+        refreshInChunks(List.copyOf(activityIds));
+    }
+
+    /**
+     * 임베딩이 없는 모든 활동을 일정 크기로 나누어 채움
+     */
+    @Async
+    public CompletableFuture<Integer> backfill() {
+        List<Long> activityIds = activityEmbeddingService.findActivityIdsWithoutEmbedding();
+        log.info("Activity embedding backfill started: {} activities", activityIds.size());
+
+        int refreshed = refreshInChunks(activityIds);
+        log.info("Activity embedding backfill finished: {} refreshed", refreshed);
+        return CompletableFuture.completedFuture(refreshed);
+    }
+
+    private int refreshInChunks(List<Long> activityIds) {
+        int refreshed = 0;
+        for (int from = 0; from < activityIds.size(); from += REFRESH_CHUNK_SIZE) {
+            int to = Math.min(from + REFRESH_CHUNK_SIZE, activityIds.size());
+            refreshed += refresh(activityIds.subList(from, to));
+        }
+        return refreshed;
+    }
+
+    private int refresh(List<Long> activityIds) {
+        try {
+            int refreshed = activityEmbeddingService.refresh(activityIds);
+            activityVectorIndex.upsert(activityIds);
+            return refreshed;
+        } catch (Exception e) {
+            log.warn("Failed to refresh activity embeddings {}: {}", activityIds, e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEmbeddingEntity;
+import com.mentoai.mentoai.entity.ActivityEntity;
+import com.mentoai.mentoai.repository.ActivityEmbeddingRepository;
+import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.service.vector.Embedding;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 활동 임베딩 저장소
+ * 활동이 생성/수정될 때 한 번만 임베딩하고, 검색 시에는 저장된 벡터를 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityEmbeddingService {
+
+    private static final int CONTENT_PREVIEW_LENGTH = 500;
+
+    private final ActivityRepository activityRepository;
+    private final ActivityEmbeddingRepository activityEmbeddingRepository;
+    private final GeminiService geminiService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 저장된 활동 임베딩 조회 (현재 임베딩 모델로 계산된 것만 반환)
+     */
+    public Map<Long, Embedding> findEmbeddings(Collection<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String model = geminiService.getEmbeddingModel();
+        Map<Long, Embedding> embeddings = new HashMap<>();
+        for (ActivityEmbeddingEntity embedding : activityEmbeddingRepository.findAllById(activityIds)) {
+            if (model.equals(embedding.getModel()) && embedding.getVector() != null) {
+                embeddings.put(embedding.getActivityId(), Embedding.of(embedding.getVector()));
+            }
+        }
+        return embeddings;
+    }
+
+    /**
+     * 현재 임베딩 모델의 저장된 임베딩을 페이지 단위로 조회 (인덱스 적재용)
+     */
+    public Slice<ActivityEmbeddingEntity> findEmbeddingPage(Pageable pageable) {
+        return activityEmbeddingRepository.findByModel(geminiService.getEmbeddingModel(), pageable);
+    }
+
+    /**
+     * 현재 임베딩 모델의 임베딩이 저장된 활동 ID 목록
+     */
+    public List<Long> findEmbeddedActivityIds() {
+        return activityEmbeddingRepository.findActivityIdsByModel(geminiService.getEmbeddingModel());
+    }
+
+    /**
+     * 주어진 시각 이후 갱신된 활동 임베딩 ID 목록
+     */
+    public List<Long> findActivityIdsUpdatedSince(Instant since) {
+        return activityEmbeddingRepository.findActivityIdsUpdatedSince(
+                geminiService.getEmbeddingModel(), since.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * 활동 임베딩 갱신 (내용 해시와 모델이 같으면 건너뜀)
+     * 원격 임베딩 요청 동안 DB 연결을 잡지 않도록 읽기, 임베딩, 저장을 나누어 저장만 짧은 쓰기 트랜잭션으로 처리한다.
+     * @return 새로 계산된 임베딩 개수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int refresh(Collection<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return 0;
+        }
+
+        String model = geminiService.getEmbeddingModel();
+        List<StaleActivity> stale = transactionTemplate.execute(status -> findStale(activityIds, model));
+        if (stale == null || stale.isEmpty()) {
+            return 0;
+        }
+
+        List<Embedding> vectors = geminiService.embedAll(stale.stream().map(StaleActivity::text).toList());
+        List<ActivityEmbeddingEntity> updated = new ArrayList<>(stale.size());
+        for (int i = 0; i < stale.size(); i++) {
+            StaleActivity activity = stale.get(i);
+            Embedding vector = vectors.get(i);
+            if (vector == null) {
+                log.warn("Failed to generate embedding for activity {}", activity.activityId());
+                continue;
+            }
+
+            ActivityEmbeddingEntity embedding = activity.existing();
+            if (embedding == null) {
+                embedding = new ActivityEmbeddingEntity();
+                embedding.setActivityId(activity.activityId());
+            }
+            embedding.setContentHash(activity.contentHash());
+            embedding.setModel(model);
+            embedding.setDimension(vector.dimension());
+            embedding.setVector(vector.toArray());
+            updated.add(embedding);
+        }
+        if (!updated.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> activityEmbeddingRepository.saveAll(updated));
+        }
+        return updated.size();
+    }
+
+    private record StaleActivity(Long activityId, String text, String contentHash, ActivityEmbeddingEntity existing) {
+    }
+
+    // 내용이 바뀐 활동만 골라 임베딩 입력 텍스트 생성 (태그 지연 로딩 때문에 트랜잭션 안에서 실행)
+    private List<StaleActivity> findStale(Collection<Long> activityIds, String model) {
+        Map<Long, ActivityEmbeddingEntity> existing = activityEmbeddingRepository.findAllById(activityIds).stream()
+                .collect(Collectors.toMap(ActivityEmbeddingEntity::getActivityId, Function.identity()));
+
+        List<StaleActivity> stale = new ArrayList<>();
+        for (ActivityEntity activity : activityRepository.findAllById(activityIds)) {
+            String text = buildActivityText(activity);
+            if (text.isEmpty()) {
+                continue;
+            }
+
+            String contentHash = contentHash(text);
+            ActivityEmbeddingEntity embedding = existing.get(activity.getId());
+            if (embedding != null && contentHash.equals(embedding.getContentHash()) && model.equals(embedding.getModel())) {
+                continue;
+            }
+            stale.add(new StaleActivity(activity.getId(), text, contentHash, embedding));
+        }
+        return stale;
+    }
+
+    /**
+     * 임베딩이 없거나 다른 모델로 계산된 활동 ID 목록
+     */
+    public List<Long> findActivityIdsWithoutEmbedding() {
+        return activityEmbeddingRepository.findActivityIdsWithoutEmbedding(geminiService.getEmbeddingModel());
+    }
+
+    /**
+     * 활동의 제목, 요약, 내용, 태그를 결합하여 임베딩 입력 텍스트 생성
+     */
+    public String buildActivityText(ActivityEntity activity) {
+        StringBuilder text = new StringBuilder();
+
+        if (activity.getTitle() != null) {
+            text.append(activity.getTitle()).append(" ");
+        }
+
+        if (activity.getSummary() != null) {
+            text.append(activity.getSummary()).append(" ");
+        }
+
+        if (activity.getContent() != null) {
+            // 내용이 너무 길면 앞부분만 사용
+            String content = activity.getContent();
+            if (content.length() > CONTENT_PREVIEW_LENGTH) {
+                content = content.substring(0, CONTENT_PREVIEW_LENGTH);
+            }
+            text.append(content).append(" ");
+        }
+
+        // 태그 추가
+        if (activity.getActivityTags() != null) {
+            for (var activityTag : activity.getActivityTags()) {
+                if (activityTag.getTag() != null && activityTag.getTag().getName() != null) {
+                    text.append(activityTag.getTag().getName()).append(" ");
+                }
+            }
+        }
+
+        return text.toString().trim();
+    }
+
+    static String contentHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEntity;
+import com.mentoai.mentoai.repository.ActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 키워드 인덱스에 넣을 활동 문서 조회 (지연 로딩되는 태그까지 트랜잭션 안에서 읽음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityKeywordDocumentService {
+
+    private final ActivityRepository activityRepository;
+
+    public List<ActivityKeywordIndex.ActivityDocument> findDocuments(Collection<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return List.of();
+        }
+        return activityRepository.findAllById(activityIds).stream()
+                .map(ActivityKeywordDocumentService::toDocument)
+                .toList();
+    }
+
+    public Slice<ActivityKeywordIndex.ActivityDocument> findDocumentPage(Pageable pageable) {
+        return activityRepository.findAllBy(pageable).map(ActivityKeywordDocumentService::toDocument);
+    }
+
+    private static ActivityKeywordIndex.ActivityDocument toDocument(ActivityEntity activity) {
+        List<String> tags = activity.getActivityTags() == null ? List.of() : activity.getActivityTags().stream()
+                .filter(activityTag -> activityTag.getTag() != null)
+                .map(activityTag -> activityTag.getTag().getName())
+                .filter(Objects::nonNull)
+                .toList();
+        return new ActivityKeywordIndex.ActivityDocument(
+                activity.getId(),
+                activity.getTitle(),
+                activity.getSummary(),
+                activity.getContent(),
+                tags
+        );
+    }
+}
@@ -0,0 +1,260 @@
+package com.mentoai.mentoai.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활동 키워드 검색용 Lucene 역색인 (Nori 형태소 분석, BM25)
+ * 기동 시 전체 활동을 적재하고 이후 활동 변경 이벤트로 증분 반영한다.
+ * 제목과 태그 필드에 가중치를 두어 검색어 확장 결과를 한 번의 질의로 검색한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityKeywordIndex {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final String ID_FIELD = "id";
+
+    // 필드별 가중치 (기존 LIKE 검색 점수의 제목 > 태그 > 내용 순서 유지)
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "title", 3.0f,
+            "tags", 2.0f,
+            "summary", 1.5f,
+            "content", 1.0f
+    );
+
+    private final ActivityKeywordDocumentService activityKeywordDocumentService;
+
+    // 복합 명사는 원형과 분해 결과를 함께 색인 (예: 백엔드개발 → 백엔드개발, 백엔드, 개발)
+    private final Analyzer analyzer = new KoreanAnalyzer(
+            null, KoreanTokenizer.DecompoundMode.MIXED, KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+    private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready = false;
+
+    public record ActivityDocument(Long id, String title, String summary, String content, List<String> tags) {
+    }
+
+    public record SearchResult(Long id, double score) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    /**
+     * 기동 후 전체 활동 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 오프셋 페이지 사이에 행 순서가 바뀌어 문서가 누락되지 않도록 ID 순으로 고정
+            Slice<ActivityDocument> page = activityKeywordDocumentService.findDocumentPage(PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("id")));
+            while (true) {
+                write(page.getContent());
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = activityKeywordDocumentService.findDocumentPage(page.nextPageable());
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            ready = true;
+            log.info("Activity keyword index loaded: {} documents in {} ms", size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("Failed to load activity keyword index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 이후 변경된 활동 반영
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityChanged(ActivityChangedEvent event) {
+        try {
+            if (event.type() == ActivityChangedEvent.ChangeType.DELETED) {
+                remove(event.activityIds());
+            } else {
+                upsert(activityKeywordDocumentService.findDocuments(event.activityIds()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update activity keyword index {}: {}", event.activityIds(), e.getMessage());
+        }
+    }
+
+    public void upsert(List<ActivityDocument> documents) {
+        try {
+            write(documents);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void remove(Collection<Long> activityIds) {
+        try {
+            for (Long activityId : activityIds) {
+                writer.deleteDocuments(new Term(ID_FIELD, activityId.toString()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 검색어 목록(원본 + 확장어)을 하나의 OR 질의로 검색, BM25 점수 순 반환
+     */
+    public List<SearchResult> search(List<String> terms, int limit) {
+        Query query = buildQuery(terms);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                List<SearchResult> results = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    String id = searcher.storedFields().document(scoreDoc.doc).get(ID_FIELD);
+                    results.add(new SearchResult(Long.valueOf(id), scoreDoc.score));
+                }
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(List<ActivityDocument> documents) throws IOException {
+        for (ActivityDocument document : documents) {
+            Document luceneDocument = new Document();
+            String id = document.id().toString();
+            luceneDocument.add(new StringField(ID_FIELD, id, Field.Store.NO));
+            luceneDocument.add(new StoredField(ID_FIELD, id));
+            addText(luceneDocument, "title", document.title());
+            addText(luceneDocument, "summary", document.summary());
+            addText(luceneDocument, "content", document.content());
+            addText(luceneDocument, "tags", String.join(" ", document.tags()));
+            writer.updateDocument(new Term(ID_FIELD, id), luceneDocument);
+        }
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    // 검색어를 필드별로 형태소 분석하여 가중치를 준 TermQuery들의 OR 질의 구성
+    private Query buildQuery(List<String> terms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+            for (String token : analyze(field.getKey(), terms)) {
+                Query termQuery = new TermQuery(new Term(field.getKey(), token));
+                builder.add(new BoostQuery(termQuery, field.getValue()), BooleanClause.Occur.SHOULD);
+                clauses++;
+            }
+        }
+        return clauses == 0 ? null : builder.build();
+    }
+
+    private Set<String> analyze(String field, List<String> terms) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String term : terms) {
+            if (term == null || term.isBlank()) {
+                continue;
+            }
+            try (TokenStream stream = analyzer.tokenStream(field, term)) {
+                CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+                stream.reset();
+                while (stream.incrementToken()) {
+                    tokens.add(attribute.toString());
+                }
+                stream.end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,6 +1,7 @@
 package com.mentoai.mentoai.service;
 
 import com.mentoai.mentoai.controller.dto.ActivityDateUpsertRequest;
+import com.mentoai.mentoai.controller.dto.ActivitySummaryResponse;
 import com.mentoai.mentoai.controller.dto.ActivityUpsertRequest;
 import com.mentoai.mentoai.controller.dto.AttachmentUpsertRequest;
 import com.mentoai.mentoai.entity.*;
@@ -8,9 +9,13 @@ import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
 import com.mentoai.mentoai.entity.UserInterestEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.repository.ActivityScrollRepository;
 import com.mentoai.mentoai.repository.TagRepository;
 import com.mentoai.mentoai.repository.UserInterestRepository;
+import com.mentoai.mentoai.service.text.SearchPatterns;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,9 +25,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -32,13 +35,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ActivityService {
     
+    // 사용자 맞춤 목록 최소 점수 (관심 태그가 하나도 맞지 않으면 유형/캠퍼스 가산점만으로는 넘지 못함)
+    private static final double MIN_PERSONALIZED_SCORE = 5.0;
+    private static final int MAX_SCROLL_SIZE = 100;
+    
+    // 필터 없는 목록에서 통계 추정 활동 수가 이 값을 넘으면 추정치를 전체 건수로 사용 (0이면 항상 정확한 건수)
+    @Value("${activity.list.approximate-count-above:10000}")
+    private long approximateCountAbove;
+    
     private final ActivityRepository activityRepository;
     private final TagRepository tagRepository;
     private final NotificationService notificationService;
     private final RecommendService recommendService;
     private final UserInterestRepository userInterestRepository;
+    private final ActivitySummaryService activitySummaryService;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public Page<ActivityEntity> getActivities(
+    /**
+     * 활동 목록 조회 (카드 표시용 요약, 상세는 getActivity)
+     */
+    public Page<ActivitySummaryResponse> getActivities(
             Long userId,
             String query,
             ActivityType type,
@@ -67,28 +83,68 @@ public class ActivityService {
         // deadlineBefore 필터는 일시적으로 비활성화 (PostgreSQL 타입 추론 문제)
         // TODO: 추후 필요시 별도 쿼리 메서드로 구현
 
-        // userId가 제공되면 사용자 맞춤 추천 적용
+        Page<Long> activityIds;
+        String tsQuery = SearchPatterns.prefixAll(query);
         if (userId != null) {
-            return getPersonalizedActivities(userId, query, type, tagNames, isCampus, status, pageable);
+            // userId가 제공되면 사용자 맞춤 추천 적용
+            activityIds = getPersonalizedActivityIds(userId, query, type, tagNames, isCampus, status, pageable);
+        } else if (tsQuery != null) {
+            // 검색어가 있으면 전문 검색/트라이그램 인덱스로 관련도 순 조회
+            activityIds = searchIdsByRelevance(query, tsQuery, type, tagNames, isCampus, status, pageable);
+        } else {
+            // 기존 로직 (일반 조회)
+            activityIds = searchIds(query, type, tagNames, isCampus, status, pageable);
         }
 
-        // 기존 로직 (일반 조회)
-        return activityRepository.search(
+        // 해당 페이지의 요약만 프로젝션으로 조회 (본문/첨부 제외)
+        return new PageImpl<>(
+                activitySummaryService.findSummaries(activityIds.getContent()), pageable, activityIds.getTotalElements());
+    }
+    
+    // 일반 조회: 태그/마감일 조건을 EXISTS로 거른 ID 페이지
+    private Page<Long> searchIds(
+            String query,
+            ActivityType type,
+            List<String> tagNames,
+            Boolean isCampus,
+            ActivityStatus status,
+            Pageable pageable) {
+        
+        boolean unfiltered = (query == null || query.isBlank()) && type == null && isCampus == null
+                && status == null && (tagNames == null || tagNames.isEmpty());
+        if (unfiltered && approximateCountAbove > 0) {
+            long estimate = activityRepository.estimateActivityCount();
+            if (estimate > approximateCountAbove) {
+                return searchIdsWithEstimatedTotal(pageable, estimate);
+            }
+        }
+        
+        return activityRepository.searchIds(
                 query,
                 type,
                 (tagNames == null || tagNames.isEmpty()) ? null : tagNames,
                 isCampus,
                 status,
-                null, // deadlineBefore 필터 비활성화
                 ActivityDateEntity.DateType.APPLY_END,
                 pageable
         );
     }
     
+    // 필터 없는 대량 목록: 정확한 count(*) 대신 테이블 통계 추정치를 전체 건수로 사용
+    // (마지막 페이지에 도달하면 실제 건수로 보정)
+    private Page<Long> searchIdsWithEstimatedTotal(Pageable pageable, long estimate) {
+        Slice<Long> slice = activityRepository.searchIdSlice(
+                null, null, null, null, null, ActivityDateEntity.DateType.APPLY_END, pageable);
+        long total = slice.hasNext()
+                ? Math.max(estimate, pageable.getOffset() + slice.getNumberOfElements() + 1)
+                : pageable.getOffset() + slice.getNumberOfElements();
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+    
     /**
-     * 사용자 맞춤 활동 목록 조회
+     * 사용자 맞춤 활동 목록 ID 조회
      */
-    private Page<ActivityEntity> getPersonalizedActivities(
+    private Page<Long> getPersonalizedActivityIds(
             Long userId,
             String query,
             ActivityType type,
@@ -102,94 +158,110 @@ public class ActivityService {
         
         if (userInterests.isEmpty()) {
             // 관심사가 없으면 일반 조회로 fallback
-            return activityRepository.search(
-                    query,
-                    type,
-                    (tagNames == null || tagNames.isEmpty()) ? null : tagNames,
-                    isCampus,
-                    status,
-                    null,
-                    ActivityDateEntity.DateType.APPLY_END,
-                    pageable
-            );
+            return searchIds(query, type, tagNames, isCampus, status, pageable);
         }
         
-        // 먼저 필터 조건으로 활동 조회 (더 많은 결과 가져오기)
-        Page<ActivityEntity> filteredActivities = activityRepository.search(
-                query,
-                type,
-                (tagNames == null || tagNames.isEmpty()) ? null : tagNames,
-                isCampus,
-                status,
-                null,
-                ActivityDateEntity.DateType.APPLY_END,
-                Pageable.unpaged() // 모든 결과 가져오기
-        );
+        // 관심사/유형/캠퍼스 점수 계산과 정렬, 페이지 분할을 DB에서 수행 (해당 페이지 행만 조회)
+        String pattern = query != null && !query.isBlank() ? SearchPatterns.contains(query) : null;
+        String typeName = type != null ? type.name() : null;
+        String statusName = status != null ? status.name() : null;
+        boolean hasTags = tagNames != null && !tagNames.isEmpty();
+        List<String> tagParams = hasTags ? tagNames : List.of("");
         
-        // 사용자 관심사 태그 ID 목록
-        List<Long> userInterestTagIds = userInterests.stream()
-                .map(UserInterestEntity::getTagId)
-                .collect(Collectors.toList());
+        List<ActivityRepository.RankedActivity> ranked = activityRepository.searchPersonalized(
+                userId, pattern, typeName, isCampus, statusName, hasTags, tagParams, MIN_PERSONALIZED_SCORE,
+                pageable.getPageSize(), pageable.getOffset());
+        long total = ranked.isEmpty() && pageable.getOffset() == 0
+                ? 0
+                : activityRepository.countPersonalized(
+                        userId, pattern, typeName, isCampus, statusName, hasTags, tagParams, MIN_PERSONALIZED_SCORE);
         
-        // 최소 점수 임계값 설정 (예: 5.0)
-        // 관심사 태그가 하나도 매칭되지 않으면 최소 점수도 받지 못함
-        double MIN_SCORE_THRESHOLD = 5.0;
+        return new PageImpl<>(rankedIds(ranked), pageable, total);
+    }
+    
+    /**
+     * 관련도 순 검색 결과 ID 페이지 (정렬 파라미터 대신 검색 순위 사용, 동점이면 최신순)
+     */
+    private Page<Long> searchIdsByRelevance(
+            String query,
+            String tsQuery,
+            ActivityType type,
+            List<String> tagNames,
+            Boolean isCampus,
+            ActivityStatus status,
+            Pageable pageable) {
         
-        // 활동별 점수 계산 및 정렬
-        Map<ActivityEntity, Double> activityScores = new HashMap<>();
-        for (ActivityEntity activity : filteredActivities.getContent()) {
-            double score = 0.0;
-            
-            // 활동의 태그와 사용자 관심사 매칭
-            if (activity.getActivityTags() != null && !activity.getActivityTags().isEmpty()) {
-                for (var activityTag : activity.getActivityTags()) {
-                    if (userInterestTagIds.contains(activityTag.getTag().getId())) {
-                        // 관심사 점수에 따라 가중치 적용 (RecommendService와 동일한 로직)
-                        UserInterestEntity matchingInterest = userInterests.stream()
-                                .filter(ui -> ui.getTagId().equals(activityTag.getTag().getId()))
-                                .findFirst()
-                                .orElse(null);
-                        if (matchingInterest != null) {
-                            score += matchingInterest.getScore() * 10.0;
-                        }
-                    }
-                }
-            }
-            
-            // 활동 유형 보너스
-            if (activity.getType() == ActivityType.STUDY) {
-                score += 5.0;
-            } else if (activity.getType() == ActivityType.CONTEST) {
-                score += 3.0;
-            }
-            
-            // 캠퍼스 활동 가중치
-            if (activity.getIsCampus() != null && activity.getIsCampus()) {
-                score += 2.0;
-            }
-            
-            // 최소 점수 임계값 이상인 활동만 추가
-            if (score >= MIN_SCORE_THRESHOLD) {
-                activityScores.put(activity, score);
-            }
-        }
+        String titlePattern = SearchPatterns.contains(query);
+        String typeName = type != null ? type.name() : null;
+        String statusName = status != null ? status.name() : null;
+        boolean hasTags = tagNames != null && !tagNames.isEmpty();
+        // IN ()은 허용되지 않으므로 태그 필터가 없을 때도 자리표시 값을 넘김
+        List<String> tagParams = hasTags ? tagNames : List.of("");
         
-        // 점수 순으로 정렬
-        List<ActivityEntity> personalizedList = activityScores.entrySet().stream()
-                .sorted(Map.Entry.<ActivityEntity, Double>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        List<ActivityRepository.RankedActivity> ranked = activityRepository.searchRanked(
+                query.trim(), tsQuery, titlePattern, typeName, isCampus, statusName, hasTags, tagParams,
+                pageable.getPageSize(), pageable.getOffset());
+        long total = ranked.isEmpty() && pageable.getOffset() == 0
+                ? 0
+                : activityRepository.countRanked(tsQuery, titlePattern, typeName, isCampus, statusName, hasTags, tagParams);
+        
+        return new PageImpl<>(rankedIds(ranked), pageable, total);
+    }
+    
+    private static List<Long> rankedIds(List<ActivityRepository.RankedActivity> ranked) {
+        return ranked.stream().map(ActivityRepository.RankedActivity::getActivityId).toList();
+    }
+    
+    public record ActivityScroll(List<ActivitySummaryResponse> items, String nextCursor, Long totalElements) {
+    }
+    
+    /**
+     * 커서 기반 활동 목록 조회 (무한 스크롤용)
+     * @param cursor 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param includeTotal true일 때만 전체 건수 조회
+     */
+    public ActivityScroll scrollActivities(
+            ActivityType type,
+            List<String> tagNames,
+            Boolean isCampus,
+            ActivityStatus status,
+            String sort,
+            String direction,
+            String cursor,
+            int size,
+            boolean includeTotal) {
         
-        // 점수가 0인 활동 추가 로직 제거 (이미 필터링됨)
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1-" + MAX_SCROLL_SIZE + " 사이여야 합니다.");
+        }
+        ActivityScrollRepository.SortKey sortKey = ActivityScrollRepository.SortKey.fromProperty(
+                sort == null || sort.isBlank() ? "createdAt" : sort);
+        boolean descending = direction == null || direction.isBlank() || "desc".equalsIgnoreCase(direction);
+        ActivityCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : ActivityCursor.decode(cursor, sortKey, descending);
+        ActivityScrollRepository.Filter filter = new ActivityScrollRepository.Filter(
+                type, isCampus, status, (tagNames == null || tagNames.isEmpty()) ? null : tagNames);
+        
+        // 한 행을 더 읽어 다음 페이지 존재 여부 판단
+        List<ActivityScrollRepository.KeysetRow> rows = activityRepository.scroll(
+                filter, sortKey, descending,
+                after != null ? after.afterKey() : null,
+                after != null ? after.afterId() : null,
+                size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ActivityScrollRepository.KeysetRow> page = hasNext ? rows.subList(0, size) : rows;
         
-        // 페이지네이션 적용
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), personalizedList.size());
-        List<ActivityEntity> pagedList = start < personalizedList.size() 
-                ? personalizedList.subList(start, end) 
-                : List.of();
+        List<ActivitySummaryResponse> items = activitySummaryService.findSummaries(
+                page.stream().map(ActivityScrollRepository.KeysetRow::activityId).toList());
         
-        return new PageImpl<>(pagedList, pageable, personalizedList.size());
+        String nextCursor = null;
+        if (hasNext) {
+            ActivityScrollRepository.KeysetRow last = page.get(page.size() - 1);
+            nextCursor = new ActivityCursor(sortKey, descending, last.sortKey(), last.activityId()).encode();
+        }
+        Long total = includeTotal ? activityRepository.countByFilter(filter) : null;
+        return new ActivityScroll(items, nextCursor, total);
     }
     
     @Transactional
@@ -199,6 +271,7 @@ public class ActivityService {
 
         ActivityEntity savedActivity = activityRepository.save(activity);
         notificationService.createNewActivityNotification(savedActivity);
+        eventPublisher.publishEvent(ActivityChangedEvent.upserted(savedActivity.getId()));
         return savedActivity;
     }
     
@@ -211,7 +284,9 @@ public class ActivityService {
         return activityRepository.findById(id)
             .map(existingActivity -> {
                 applyUpsert(existingActivity, request);
-                return activityRepository.save(existingActivity);
+                ActivityEntity savedActivity = activityRepository.save(existingActivity);
+                eventPublisher.publishEvent(ActivityChangedEvent.upserted(savedActivity.getId()));
+                return savedActivity;
             });
     }
     
@@ -219,6 +294,7 @@ public class ActivityService {
     public boolean deleteActivity(Long id) {
         if (activityRepository.existsById(id)) {
             activityRepository.deleteById(id);
+            eventPublisher.publishEvent(ActivityChangedEvent.deleted(id));
             return true;
         }
         return false;
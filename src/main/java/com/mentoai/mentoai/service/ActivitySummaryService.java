@@ -0,0 +1,76 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.controller.dto.ActivityDateResponse;
+import com.mentoai.mentoai.controller.dto.ActivitySummaryResponse;
+import com.mentoai.mentoai.controller.dto.TagResponse;
+import com.mentoai.mentoai.repository.ActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록/추천 응답용 활동 요약 조회
+ * 엔티티 대신 필요한 컬럼만 프로젝션으로 읽어 본문(content)과 첨부를 전송하지 않는다. (페이지당 쿼리 3회)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivitySummaryService {
+
+    private final ActivityRepository activityRepository;
+
+    /**
+     * 주어진 ID 순서대로 활동 요약 반환 (없는 ID는 제외)
+     */
+    public List<ActivitySummaryResponse> findSummaries(List<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ActivityDateResponse>> datesByActivity = new HashMap<>();
+        for (ActivityRepository.SummaryDate date : activityRepository.findSummaryDates(activityIds)) {
+            datesByActivity.computeIfAbsent(date.getActivityId(), id -> new ArrayList<>())
+                    .add(new ActivityDateResponse(
+                            date.getId(),
+                            date.getDateType() != null ? date.getDateType().name() : null,
+                            date.getDateValue()));
+        }
+
+        Map<Long, List<TagResponse>> tagsByActivity = new HashMap<>();
+        for (ActivityRepository.SummaryTag tag : activityRepository.findSummaryTags(activityIds)) {
+            tagsByActivity.computeIfAbsent(tag.getActivityId(), id -> new ArrayList<>())
+                    .add(new TagResponse(
+                            tag.getTagId(),
+                            tag.getName(),
+                            tag.getType() != null ? tag.getType().name() : null));
+        }
+
+        Map<Long, ActivitySummaryResponse> summaries = new HashMap<>();
+        for (ActivityRepository.SummaryRow row : activityRepository.findSummaryRows(activityIds)) {
+            summaries.put(row.getId(), new ActivitySummaryResponse(
+                    row.getId(),
+                    row.getTitle(),
+                    row.getSummary(),
+                    row.getType() != null ? row.getType().name() : null,
+                    row.getOrganizer(),
+                    row.getLocation(),
+                    row.getUrl(),
+                    row.getIsCampus(),
+                    row.getStatus() != null ? row.getStatus().name() : null,
+                    row.getPublishedAt(),
+                    row.getCreatedAt(),
+                    datesByActivity.getOrDefault(row.getId(), List.of()),
+                    tagsByActivity.getOrDefault(row.getId(), List.of())));
+        }
+
+        return activityIds.stream()
+                .map(summaries::get)
+                .filter(summary -> summary != null)
+                .toList();
+    }
+}
@@ -0,0 +1,321 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEmbeddingEntity;
+import com.mentoai.mentoai.service.vector.Embedding;
+import com.mentoai.mentoai.service.vector.HnswIndex;
+import com.mentoai.mentoai.service.vector.ProductQuantizer;
+import com.mentoai.mentoai.service.vector.ScalarQuantizer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 활동 임베딩 HNSW 인덱스
+ * 기동 시 스냅샷 파일을 매핑하여 바로 검색 가능 상태가 되고, 스냅샷 이후 변경분만 DB에서 따라잡는다.
+ * 스냅샷이 없으면 저장된 임베딩을 모두 적재한다. 이후 임베딩 갱신/활동 삭제에 맞춰 증분 반영한다.
+ * 양자화 모드(int8, pq)에서는 코드로 후보를 고른 뒤 저장소의 원본 벡터로 재정렬한다.
+ * 삭제된 노드가 쌓이면 잠금 밖에서 새 그래프를 만들어 통째로 교체하므로 검색은 재구성 동안에도 막히지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityVectorIndex {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final long SEED = 42L;
+    // 스냅샷 기록 시점에 아직 반영되지 않았던 비동기 갱신까지 포함하도록 여유를 둠
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+    // 오프셋 페이지 사이에 행 순서가 바뀌어 누락/중복 적재되지 않도록 고정 정렬
+    private static final Sort BY_ACTIVITY_ID = Sort.by("activityId");
+
+    private final ActivityEmbeddingService activityEmbeddingService;
+    private final GeminiService geminiService;
+
+    @Value("${vector.hnsw.m:16}")
+    private int m;
+
+    @Value("${vector.hnsw.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${vector.hnsw.ef-search:64}")
+    private int efSearch;
+
+    @Value("${vector.quantization.mode:none}")
+    private String quantizationMode;
+
+    @Value("${vector.quantization.rerank-factor:4}")
+    private int rerankFactor;
+
+    @Value("${vector.quantization.pq.subspaces:96}")
+    private int pqSubspaces;
+
+    @Value("${vector.quantization.pq.training-sample:2000}")
+    private int pqTrainingSample;
+
+    @Value("${vector.quantization.pq.iterations:8}")
+    private int pqIterations;
+
+    @Value("${vector.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${vector.snapshot.path:data/activity-vectors.snap}")
+    private Path snapshotPath;
+
+    private volatile HnswIndex index;
+    private volatile boolean ready = false;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    // 인덱스 교체와 증분 반영을 직렬화 (검색은 잠그지 않음)
+    private final Object mutationLock = new Object();
+    // 압축 중 기존 인덱스에 반영된 활동 ID (교체 후 새 인덱스에 다시 적용)
+    private Set<Long> changedDuringCompaction;
+
+    @PostConstruct
+    void init() {
+        index = new HnswIndex(m, efConstruction, SEED, "int8".equals(quantizationMode) ? new ScalarQuantizer() : null);
+        if (!snapshotEnabled || !Files.exists(snapshotPath)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            index = HnswIndex.openSnapshot(snapshotPath, geminiService.getEmbeddingModel(), m, efConstruction, SEED);
+            if ("int8".equals(quantizationMode)) {
+                index.useQuantizer(new ScalarQuantizer());
+            }
+            ready = true;
+            log.info("Activity vector index mapped from snapshot {}: {} vectors in {} ms",
+                    snapshotPath, index.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("Failed to open activity vector snapshot {}, rebuilding from database: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 후 스냅샷 이후 변경분 반영, 스냅샷이 없으면 저장된 활동 임베딩 전체 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            if ("pq".equals(quantizationMode) && index.snapshotCreatedAt() != null) {
+                // 살아있는 벡터가 없는 스냅샷이면 학습을 건너뛰고 변경분 반영은 계속 진행
+                List<float[]> sample = index.sampleVectors(pqTrainingSample);
+                if (!sample.isEmpty()) {
+                    index.useQuantizer(trainProductQuantizer(sample));
+                }
+            }
+            if (index.snapshotCreatedAt() != null) {
+                catchUpSince(index.snapshotCreatedAt().minus(CATCH_UP_MARGIN));
+            } else {
+                loadFromDatabase();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load activity vector index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경이 있으면 주기적으로 스냅샷 기록
+     */
+    @Scheduled(fixedDelayString = "${vector.snapshot.interval-ms:600000}", initialDelayString = "${vector.snapshot.interval-ms:600000}")
+    public void writeSnapshot() {
+        if (!snapshotEnabled || !ready || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            index.writeSnapshot(snapshotPath, geminiService.getEmbeddingModel());
+            log.info("Activity vector snapshot written to {}: {} vectors in {} ms",
+                    snapshotPath, index.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("Failed to write activity vector snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장소의 최신 임베딩으로 인덱스 갱신
+     */
+    public void upsert(Collection<Long> activityIds) {
+        Map<Long, Embedding> embeddings = activityEmbeddingService.findEmbeddings(activityIds);
+        synchronized (mutationLock) {
+            HnswIndex current = index;
+            embeddings.forEach(current::upsert);
+            if (changedDuringCompaction != null) {
+                changedDuringCompaction.addAll(embeddings.keySet());
+            }
+        }
+        if (!embeddings.isEmpty()) {
+            dirty.set(true);
+        }
+    }
+
+    public void remove(Collection<Long> activityIds) {
+        synchronized (mutationLock) {
+            HnswIndex current = index;
+            for (Long activityId : activityIds) {
+                current.remove(activityId);
+            }
+            if (changedDuringCompaction != null) {
+                changedDuringCompaction.addAll(activityIds);
+            }
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * 삭제 비율이 높으면 살아있는 노드로 새 그래프를 만들어 교체
+     * 재구성은 잠금 밖에서 진행하고, 그 사이 반영된 변경만 교체 직전에 새 인덱스에 다시 적용한다.
+     */
+    @Scheduled(fixedDelayString = "${vector.hnsw.compaction-interval-ms:60000}", initialDelayString = "${vector.hnsw.compaction-interval-ms:60000}")
+    public void compactIfNeeded() {
+        HnswIndex current = index;
+        if (!ready || !current.needsCompaction()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        synchronized (mutationLock) {
+            changedDuringCompaction = new HashSet<>();
+        }
+        HnswIndex compacted;
+        try {
+            compacted = current.compact();
+        } catch (Exception e) {
+            synchronized (mutationLock) {
+                changedDuringCompaction = null;
+            }
+            log.warn("Failed to compact activity vector index: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (mutationLock) {
+            Set<Long> changed = changedDuringCompaction;
+            changedDuringCompaction = null;
+            // 재구성 중 갱신된 활동은 저장소의 벡터로, 삭제된 활동은 새 인덱스에서도 제거
+            Map<Long, Embedding> embeddings = activityEmbeddingService.findEmbeddings(
+                    changed.stream().filter(current::contains).toList());
+            for (Long activityId : changed) {
+                Embedding embedding = embeddings.get(activityId);
+                if (embedding != null) {
+                    compacted.upsert(activityId, embedding);
+                } else {
+                    compacted.remove(activityId);
+                }
+            }
+            index = compacted;
+        }
+        dirty.set(true);
+        log.info("Activity vector index compacted: {} vectors in {} ms", compacted.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 전체 카탈로그에서 질의 벡터와 가장 유사한 활동 검색
+     */
+    public List<HnswIndex.SearchResult> search(Embedding query, int k) {
+        if (!index.isQuantized()) {
+            return index.search(query, k, Math.max(efSearch, k));
+        }
+
+        // 양자화 코드로 k * rerankFactor개 후보를 고르고 원본 벡터로 재정렬
+        int candidateCount = k * Math.max(1, rerankFactor);
+        List<HnswIndex.SearchResult> candidates = index.search(query, candidateCount, Math.max(efSearch, candidateCount));
+        Map<Long, Embedding> exact = activityEmbeddingService.findEmbeddings(
+                candidates.stream().map(HnswIndex.SearchResult::id).toList());
+        return candidates.stream()
+                .filter(candidate -> exact.containsKey(candidate.id()))
+                .map(candidate -> new HnswIndex.SearchResult(candidate.id(), query.similarity(exact.get(candidate.id()))))
+                .sorted(Comparator.comparingDouble(HnswIndex.SearchResult::similarity).reversed())
+                .limit(k)
+                .toList();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private void loadFromDatabase() {
+        long startedAt = System.currentTimeMillis();
+        HnswIndex loaded = index;
+        if ("pq".equals(quantizationMode)) {
+            List<float[]> sample = activityEmbeddingService.findEmbeddingPage(PageRequest.of(0, pqTrainingSample, BY_ACTIVITY_ID))
+                    .getContent().stream()
+                    .filter(embedding -> embedding.getVector() != null)
+                    .map(embedding -> Embedding.of(embedding.getVector()).toArray())
+                    .toList();
+            if (!sample.isEmpty()) {
+                loaded.useQuantizer(trainProductQuantizer(sample));
+            }
+        }
+        Slice<ActivityEmbeddingEntity> page = activityEmbeddingService.findEmbeddingPage(PageRequest.of(0, LOAD_PAGE_SIZE, BY_ACTIVITY_ID));
+        while (true) {
+            for (ActivityEmbeddingEntity embedding : page.getContent()) {
+                if (embedding.getVector() != null) {
+                    loaded.upsert(embedding.getActivityId(), Embedding.of(embedding.getVector()));
+                }
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = activityEmbeddingService.findEmbeddingPage(page.nextPageable());
+        }
+
+        ready = true;
+        dirty.set(true);
+        log.info("Activity vector index loaded: {} vectors in {} ms", loaded.size(), System.currentTimeMillis() - startedAt);
+        writeSnapshot();
+    }
+
+    private ProductQuantizer trainProductQuantizer(List<float[]> sample) {
+        long startedAt = System.currentTimeMillis();
+        int subspaces = Math.min(pqSubspaces, sample.get(0).length);
+        ProductQuantizer quantizer = ProductQuantizer.train(sample, subspaces, pqIterations, SEED);
+        log.info("Product quantizer trained on {} vectors ({} subspaces) in {} ms",
+                sample.size(), subspaces, System.currentTimeMillis() - startedAt);
+        return quantizer;
+    }
+
+    // 스냅샷 이후 갱신된 임베딩과 근사 벡터로 저장된 활동을 원본으로 반영, DB에서 사라진 활동 제거
+    private void catchUpSince(Instant since) {
+        long startedAt = System.currentTimeMillis();
+        Set<Long> updatedIds = new HashSet<>(activityEmbeddingService.findActivityIdsUpdatedSince(since));
+        updatedIds.addAll(index.approximateIds());
+        upsert(updatedIds);
+
+        Set<Long> storedIds = new HashSet<>(activityEmbeddingService.findEmbeddedActivityIds());
+        List<Long> removedIds = index.ids().stream()
+                .filter(id -> !storedIds.contains(id))
+                .toList();
+        if (!removedIds.isEmpty()) {
+            remove(removedIds);
+        }
+        log.info("Activity vector index caught up from snapshot: {} updated, {} removed in {} ms",
+                updatedIds.size(), removedIds.size(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,175 @@
+package com.mentoai.mentoai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.*;
+
+/**
+ * Gemini API 호출 구현 (기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gemini.provider", havingValue = "gemini", matchIfMissing = true)
+public class GeminiApiProvider implements LanguageModelProvider {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${gemini.api.key}")
+    private String apiKey;
+
+    private static final String EMBEDDING_MODEL = "models/embedding-001";
+    private static final String EMBEDDING_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/embedding-001:embedContent";
+    private static final String BATCH_EMBEDDING_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/embedding-001:batchEmbedContents";
+    private static final String TEXT_GENERATION_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-pro:generateContent";
+
+    @Override
+    public String embeddingModel() {
+        return EMBEDDING_MODEL;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("x-goog-api-key", apiKey);
+
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("model", EMBEDDING_MODEL);
+            
+            Map<String, Object> content = new HashMap<>();
+            content.put("parts", List.of(Map.of("text", text)));
+            requestBody.put("content", content);
+
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    EMBEDDING_API_URL + "?key=" + apiKey,
+                    request,
+                    String.class
+            );
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                JsonNode jsonNode = objectMapper.readTree(response.getBody());
+                return toVector(jsonNode.path("embedding").path("values"));
+            } else {
+                log.error("Gemini API embedding request failed: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to generate embedding");
+            }
+        } catch (Exception e) {
+            log.error("Error calling Gemini API for embedding", e);
+            throw new RuntimeException("Error generating embedding: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<float[]> embedBatch(List<String> texts) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("x-goog-api-key", apiKey);
+
+        List<Map<String, Object>> requests = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            Map<String, Object> request = new HashMap<>();
+            request.put("model", EMBEDDING_MODEL);
+            request.put("content", Map.of("parts", List.of(Map.of("text", text))));
+            requests.add(request);
+        }
+
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of("requests", requests), headers);
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                BATCH_EMBEDDING_API_URL + "?key=" + apiKey,
+                request,
+                String.class
+        );
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new RuntimeException("Gemini API batch embedding request failed: " + response.getStatusCode());
+        }
+
+        JsonNode embeddingsNode = objectMapper.readTree(response.getBody()).path("embeddings");
+        if (embeddingsNode.size() != texts.size()) {
+            throw new RuntimeException("Unexpected batch embedding count: " + embeddingsNode.size() + " != " + texts.size());
+        }
+
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (JsonNode embeddingNode : embeddingsNode) {
+            vectors.add(toVector(embeddingNode.path("values")));
+        }
+        return vectors;
+    }
+
+    @Override
+    public String generateText(String userMessage, List<GeminiService.ChatMessage> conversationHistory) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("x-goog-api-key", apiKey);
+
+            List<Map<String, Object>> contents = new ArrayList<>();
+            
+            // 대화 기록이 있으면 추가 (역순이므로 뒤집어서 추가)
+            if (conversationHistory != null && !conversationHistory.isEmpty()) {
+                List<GeminiService.ChatMessage> reversed = new ArrayList<>(conversationHistory);
+                Collections.reverse(reversed);
+                
+                for (GeminiService.ChatMessage msg : reversed) {
+                    Map<String, Object> content = new HashMap<>();
+                    content.put("role", msg.role().equals("USER") ? "user" : "model");
+                    content.put("parts", List.of(Map.of("text", msg.content())));
+                    contents.add(content);
+                }
+            }
+            
+            // 현재 사용자 메시지 추가
+            Map<String, Object> userContent = new HashMap<>();
+            userContent.put("role", "user");
+            userContent.put("parts", List.of(Map.of("text", userMessage)));
+            contents.add(userContent);
+
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("contents", contents);
+
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    TEXT_GENERATION_API_URL + "?key=" + apiKey,
+                    request,
+                    String.class
+            );
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                JsonNode jsonNode = objectMapper.readTree(response.getBody());
+                return jsonNode.path("candidates")
+                        .get(0)
+                        .path("content")
+                        .path("parts")
+                        .get(0)
+                        .path("text")
+                        .asText();
+            } else {
+                log.error("Gemini API text generation request failed: {}", response.getStatusCode());
+                throw new RuntimeException("Failed to generate text");
+            }
+        } catch (Exception e) {
+            log.error("Error calling Gemini API for text generation", e);
+            throw new RuntimeException("Error generating text: " + e.getMessage(), e);
+        }
+    }
+
+    private static float[] toVector(JsonNode valuesNode) {
+        float[] values = new float[valuesNode.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) valuesNode.get(i).asDouble();
+        }
+        return values;
+    }
+}
@@ -1,91 +1,182 @@
 package com.mentoai.mentoai.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.service.vector.Embedding;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+/**
+ * 임베딩/텍스트 생성 진입점
+ * 실제 호출은 LanguageModelProvider(gemini | local)가 담당하고, 여기서는 검색어 캐시와 일괄 요청 분할을 처리한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final LanguageModelProvider provider;
+    private final QueryEmbeddingCache queryEmbeddingCache;
 
-    @Value("${gemini.api.key}")
-    private String apiKey;
+    // batchEmbedContents 한 번에 보낼 최대 텍스트 수 / 본문 크기(바이트)
+    @Value("${gemini.embedding.batch.max-items:100}")
+    private int batchMaxItems = 100;
 
-    private static final String EMBEDDING_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/embedding-001:embedContent";
-    private static final String TEXT_GENERATION_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-pro:generateContent";
+    @Value("${gemini.embedding.batch.max-bytes:1000000}")
+    private int batchMaxBytes = 1_000_000;
 
     /**
      * 텍스트를 임베딩 벡터로 변환
      */
     public List<Double> generateEmbedding(String text) {
+        float[] vector = requestEmbedding(text);
+        List<Double> embedding = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            embedding.add((double) value);
+        }
+        return embedding;
+    }
+
+    /**
+     * 텍스트를 정규화된 float 임베딩으로 변환 (유사도 계산은 Embedding#similarity 사용)
+     */
+    public Embedding embed(String text) {
+        return Embedding.of(requestEmbedding(text));
+    }
+
+    /**
+     * 검색어처럼 반복되는 짧은 텍스트의 임베딩 (캐시 적용)
+     */
+    public Embedding embedQuery(String text) {
         if (text == null || text.trim().isEmpty()) {
             throw new IllegalArgumentException("Text is required.");
         }
+        return queryEmbeddingCache.get(provider.embeddingModel(), text, this::embed);
+    }
 
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-goog-api-key", apiKey);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "models/embedding-001");
-            
-            Map<String, Object> content = new HashMap<>();
-            content.put("parts", List.of(Map.of("text", text)));
-            requestBody.put("content", content);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    EMBEDDING_API_URL + "?key=" + apiKey,
-                    request,
-                    String.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                JsonNode embeddingNode = jsonNode.path("embedding").path("values");
-                
-                List<Double> embedding = new ArrayList<>();
-                for (JsonNode value : embeddingNode) {
-                    embedding.add(value.asDouble());
-                }
-                return embedding;
-            } else {
-                log.error("Gemini API embedding request failed: {}", response.getStatusCode());
-                throw new RuntimeException("Failed to generate embedding");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Gemini API for embedding", e);
-            throw new RuntimeException("Error generating embedding: " + e.getMessage(), e);
+    private float[] requestEmbedding(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Text is required.");
         }
+        return provider.embed(text);
     }
 
     /**
-     * 여러 텍스트의 임베딩을 일괄 생성
+     * 임베딩 모델 이름 (저장된 벡터의 호환성 확인용)
+     */
+    public String getEmbeddingModel() {
+        return provider.embeddingModel();
+    }
+
+    /**
+     * 여러 텍스트의 임베딩을 일괄 생성 (batchEmbedContents 사용)
      */
     public Map<String, List<Double>> generateEmbeddings(List<String> texts) {
+        List<float[]> vectors = requestEmbeddings(texts);
         Map<String, List<Double>> embeddings = new HashMap<>();
-        for (String text : texts) {
-            try {
-                embeddings.put(text, generateEmbedding(text));
-            } catch (Exception e) {
-                log.warn("Failed to generate embedding for text '{}': {}", text, e.getMessage());
+        for (int i = 0; i < texts.size(); i++) {
+            float[] vector = vectors.get(i);
+            if (vector == null) {
+                continue;
+            }
+            List<Double> embedding = new ArrayList<>(vector.length);
+            for (float value : vector) {
+                embedding.add((double) value);
             }
+            embeddings.put(texts.get(i), embedding);
         }
         return embeddings;
     }
 
+    /**
+     * 여러 텍스트를 정규화된 임베딩으로 일괄 변환
+     * @return 입력과 같은 순서의 목록, 실패한 항목은 null
+     */
+    public List<Embedding> embedAll(List<String> texts) {
+        List<float[]> vectors = requestEmbeddings(texts);
+        List<Embedding> embeddings = new ArrayList<>(vectors.size());
+        for (float[] vector : vectors) {
+            embeddings.add(vector == null || vector.length == 0 ? null : Embedding.of(vector));
+        }
+        return embeddings;
+    }
+
+    // 항목 수와 본문 크기 기준으로 묶어서 요청
+    private List<float[]> requestEmbeddings(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.trim().isEmpty()) {
+                continue;
+            }
+            int textBytes = text.getBytes(StandardCharsets.UTF_8).length;
+            if (!chunk.isEmpty() && (chunk.size() >= batchMaxItems || chunkBytes + textBytes > batchMaxBytes)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(i);
+            chunkBytes += textBytes;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        for (int i = 0; i < chunks.size(); i++) {
+            if (!requestEmbeddingChunk(texts, chunks.get(i), vectors)) {
+                // 일시적 오류(할당량, 서버, 네트워크)면 남은 묶음도 보내지 않고 실패 처리 (다음 갱신 때 재시도)
+                log.warn("Skipping {} remaining embedding batches after a transient failure", chunks.size() - i - 1);
+                break;
+            }
+        }
+        return vectors;
+    }
+
+    /**
+     * 묶음 요청 실패 시 요청 내용 문제(400, 413)일 때만 반으로 나누어 재시도하여 실패 항목만 제외
+     * 할당량 초과(429), 서버 오류(5xx), 네트워크 오류는 나눠도 같은 결과라 요청 수만 늘어나므로 그대로 실패 처리
+     * @return 일시적 오류로 중단해야 하면 false
+     */
+    private boolean requestEmbeddingChunk(List<String> texts, List<Integer> indexes, List<float[]> vectors) {
+        try {
+            List<float[]> results = provider.embedBatch(indexes.stream().map(texts::get).toList());
+            for (int i = 0; i < indexes.size(); i++) {
+                vectors.set(indexes.get(i), results.get(i));
+            }
+            return true;
+        } catch (Exception e) {
+            if (!isPayloadError(e)) {
+                log.warn("Batch embedding of {} texts failed: {}", indexes.size(), e.getMessage());
+                return false;
+            }
+            if (indexes.size() == 1) {
+                log.warn("Failed to generate embedding for text #{}: {}", indexes.get(0), e.getMessage());
+                return true;
+            }
+            log.debug("Batch embedding of {} texts rejected, splitting: {}", indexes.size(), e.getMessage());
+            int middle = indexes.size() / 2;
+            return requestEmbeddingChunk(texts, indexes.subList(0, middle), vectors)
+                    && requestEmbeddingChunk(texts, indexes.subList(middle, indexes.size()), vectors);
+        }
+    }
+
+    static boolean isPayloadError(Exception e) {
+        if (!(e instanceof HttpClientErrorException clientError)) {
+            return false;
+        }
+        int status = clientError.getStatusCode().value();
+        return status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.PAYLOAD_TOO_LARGE.value();
+    }
+
     /**
      * 두 임베딩 벡터의 코사인 유사도 계산
      */
@@ -122,59 +213,7 @@ public class GeminiService {
      * @param conversationHistory 대화 기록 (역순: 최신이 먼저)
      */
     public String generateText(String userMessage, List<ChatMessage> conversationHistory) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-goog-api-key", apiKey);
-
-            List<Map<String, Object>> contents = new ArrayList<>();
-            
-            // 대화 기록이 있으면 추가 (역순이므로 뒤집어서 추가)
-            if (conversationHistory != null && !conversationHistory.isEmpty()) {
-                List<ChatMessage> reversed = new ArrayList<>(conversationHistory);
-                Collections.reverse(reversed);
-                
-                for (ChatMessage msg : reversed) {
-                    Map<String, Object> content = new HashMap<>();
-                    content.put("role", msg.role().equals("USER") ? "user" : "model");
-                    content.put("parts", List.of(Map.of("text", msg.content())));
-                    contents.add(content);
-                }
-            }
-            
-            // 현재 사용자 메시지 추가
-            Map<String, Object> userContent = new HashMap<>();
-            userContent.put("role", "user");
-            userContent.put("parts", List.of(Map.of("text", userMessage)));
-            contents.add(userContent);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("contents", contents);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    TEXT_GENERATION_API_URL + "?key=" + apiKey,
-                    request,
-                    String.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.path("candidates")
-                        .get(0)
-                        .path("content")
-                        .path("parts")
-                        .get(0)
-                        .path("text")
-                        .asText();
-            } else {
-                log.error("Gemini API text generation request failed: {}", response.getStatusCode());
-                throw new RuntimeException("Failed to generate text");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Gemini API for text generation", e);
-            throw new RuntimeException("Error generating text: " + e.getMessage(), e);
-        }
+        return provider.generateText(userMessage, conversationHistory);
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.mentoai.mentoai.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 하이브리드 검색 실행기
+ * 여러 검색 경로(벡터, 키워드)를 StageExecutor에서 동시에 실행하고, 경로별 제한 시간과 전체 지연 예산 안에
+ * 끝난 결과만 Reciprocal Rank Fusion으로 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HybridRetriever {
+
+    private final StageExecutor stageExecutor;
+
+    public record Leg(String name, Supplier<List<Long>> search, Duration timeout) {
+    }
+
+    /**
+     * 모든 경로를 동시에 실행
+     * @return 경로 순서대로 순위가 매겨진 ID 목록, 실패/시간 초과한 경로는 빈 목록
+     */
+    public List<List<Long>> run(List<Leg> legs, Duration budget) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + budget.toNanos();
+        List<Future<List<Long>>> futures = new ArrayList<>(legs.size());
+        for (Leg leg : legs) {
+            futures.add(stageExecutor.submit(leg.name(), leg.search()));
+        }
+
+        // 경로별 제한 시간과 남은 예산 중 짧은 쪽까지만 대기
+        List<List<Long>> rankings = new ArrayList<>(legs.size());
+        for (int i = 0; i < legs.size(); i++) {
+            long legDeadline = Math.min(deadline, startedAt + legs.get(i).timeout().toNanos());
+            rankings.add(stageExecutor.await(legs.get(i).name(), futures.get(i), legDeadline, List.of()));
+        }
+        return rankings;
+    }
+
+    /**
+     * Reciprocal Rank Fusion: score(d) = Σ 1 / (k + rank), rank는 1부터 시작
+     * @return 점수 내림차순으로 정렬된 ID → 점수
+     */
+    public static Map<Long, Double> reciprocalRankFusion(List<List<Long>> rankings, int k) {
+        // 동점이면 먼저 등장한(앞 경로의 상위) 항목 우선
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (List<Long> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                scores.merge(ranking.get(rank), 1.0 / (k + rank + 1), Double::sum);
+            }
+        }
+
+        Map<Long, Double> fused = new LinkedHashMap<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .forEach(entry -> fused.put(entry.getKey(), entry.getValue()));
+        return fused;
+    }
+}
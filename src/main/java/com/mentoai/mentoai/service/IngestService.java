@@ -13,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -37,6 +38,7 @@ public class IngestService {
     private final ActivityRepository activityRepository;
     private final TagRepository tagRepository;
     private final ExternalCrawlerService externalCrawlerService;
+    private final ApplicationEventPublisher eventPublisher;
     private final ExecutorService executorService = Executors.newFixedThreadPool(5);
     
     // 데이터 수집 트리거
@@ -97,15 +99,14 @@ public class IngestService {
         // 실제로는 학교 홈페이지나 공지사항을 크롤링
         List<Map<String, Object>> campusActivities = generateSampleCampusActivities();
         
-        int created = 0;
+        List<Long> createdIds = new ArrayList<>();
         for (Map<String, Object> activityData : campusActivities) {
             try {
                 ActivityEntity activity = createActivityFromData(activityData);
                 activity.setIsCampus(true);
                 activity.setType(ActivityEntity.ActivityType.CAMPUS);
                 
-                activityRepository.save(activity);
-                created++;
+                createdIds.add(activityRepository.save(activity).getId());
                 
                 log.debug("Created campus activity: {}", activity.getTitle());
             } catch (Exception e) {
@@ -113,7 +114,8 @@ public class IngestService {
             }
         }
         
-        log.info("Campus activities ingestion finished: {} created", created);
+        publishActivitiesCreated(createdIds);
+        log.info("Campus activities ingestion finished: {} created", createdIds.size());
     }
     
     // 외부 활동 수집 (샘플 데이터용 - deprecated)
@@ -123,14 +125,13 @@ public class IngestService {
         // 실제로는 외부 사이트들을 크롤링
         List<Map<String, Object>> externalActivities = generateSampleExternalActivities();
         
-        int created = 0;
+        List<Long> createdIds = new ArrayList<>();
         for (Map<String, Object> activityData : externalActivities) {
             try {
                 ActivityEntity activity = createActivityFromData(activityData);
                 activity.setIsCampus(false);
                 
-                activityRepository.save(activity);
-                created++;
+                createdIds.add(activityRepository.save(activity).getId());
                 
                 log.debug("Created external activity: {}", activity.getTitle());
             } catch (Exception e) {
@@ -138,7 +139,8 @@ public class IngestService {
             }
         }
         
-        log.info("External activities ingestion finished: {} created", created);
+        publishActivitiesCreated(createdIds);
+        log.info("External activities ingestion finished: {} created", createdIds.size());
     }
     
     // 수동 입력 활동 수집
@@ -153,7 +155,7 @@ public class IngestService {
             return;
         }
         
-        int created = 0;
+        List<Long> createdIds = new ArrayList<>();
         int skipped = 0;
         
         for (Map<String, Object> activityData : manualActivities) {
@@ -175,8 +177,7 @@ public class IngestService {
                 }
                 
                 ActivityEntity activity = createActivityFromData(activityData);
-                activityRepository.save(activity);
-                created++;
+                createdIds.add(activityRepository.save(activity).getId());
                 
                 log.debug("Created manual activity: {}", activity.getTitle());
             } catch (Exception e) {
@@ -184,7 +185,8 @@ public class IngestService {
             }
         }
         
-        log.info("Manual activities ingestion finished: {} created, {} skipped", created, skipped);
+        publishActivitiesCreated(createdIds);
+        log.info("Manual activities ingestion finished: {} created, {} skipped", createdIds.size(), skipped);
     }
     
     /**
@@ -441,7 +443,7 @@ public class IngestService {
             externalActivities = externalCrawlerService.crawlRecent(source);
         }
         
-        int created = 0;
+        List<Long> createdIds = new ArrayList<>();
         int skipped = 0;
         
         for (ExternalActivity externalActivity : externalActivities) {
@@ -456,8 +458,7 @@ public class IngestService {
                 }
                 
                 ActivityEntity activity = convertExternalActivityToEntity(externalActivity);
-                activityRepository.save(activity);
-                created++;
+                createdIds.add(activityRepository.save(activity).getId());
                 
                 log.debug("Created external activity from {}: {}", source, activity.getTitle());
             } catch (Exception e) {
@@ -465,11 +466,12 @@ public class IngestService {
             }
         }
         
-        log.info("External activities ingestion finished: source={}, {} created, {} skipped", source, created, skipped);
+        publishActivitiesCreated(createdIds);
+        log.info("External activities ingestion finished: source={}, {} created, {} skipped", source, createdIds.size(), skipped);
         
         Map<String, Object> result = new HashMap<>();
         result.put("source", source);
-        result.put("created", created);
+        result.put("created", createdIds.size());
         result.put("skipped", skipped);
         result.put("total", externalActivities.size());
         return result;
@@ -528,6 +530,13 @@ public class IngestService {
         return activity;
     }
     
+    // 수집된 활동의 파생 데이터(임베딩 등) 갱신 요청
+    private void publishActivitiesCreated(List<Long> createdIds) {
+        if (!createdIds.isEmpty()) {
+            eventPublisher.publishEvent(ActivityChangedEvent.upserted(createdIds));
+        }
+    }
+    
     // 태그 찾기 또는 생성
     private TagEntity findOrCreateTag(String tagName, TagEntity.TagType tagType) {
         if (!StringUtils.hasText(tagName)) {
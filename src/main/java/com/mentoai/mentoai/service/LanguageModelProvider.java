@@ -0,0 +1,31 @@
+package com.mentoai.mentoai.service;
+
+import java.util.List;
+
+/**
+ * 임베딩/텍스트 생성 백엔드 (gemini.provider로 선택)
+ * GeminiService가 캐시, 묶음 분할, 정규화를 담당하고 구현체는 원격 호출만 담당한다.
+ */
+public interface LanguageModelProvider {
+
+    /**
+     * 저장된 벡터의 호환성 확인용 임베딩 모델 이름
+     */
+    String embeddingModel();
+
+    /**
+     * 텍스트 하나의 임베딩 (정규화 전 원본 값)
+     */
+    float[] embed(String text);
+
+    /**
+     * 여러 텍스트의 임베딩을 한 번의 요청으로 생성
+     * @return 입력과 같은 순서의 목록, 요청 전체가 실패하면 예외
+     */
+    List<float[]> embedBatch(List<String> texts) throws Exception;
+
+    /**
+     * 대화 기록(역순: 최신이 먼저)을 포함한 텍스트 생성
+     */
+    String generateText(String userMessage, List<GeminiService.ChatMessage> conversationHistory);
+}
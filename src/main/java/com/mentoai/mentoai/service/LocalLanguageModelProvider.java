@@ -0,0 +1,185 @@
+package com.mentoai.mentoai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mentoai.mentoai.service.vector.Embedding;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네트워크 없이 동작하는 결정적 구현 (부하 테스트/벤치마크용, gemini.provider=local)
+ * 임베딩은 단어와 문자 n-gram을 해싱한 벡터이고, 추천 프롬프트에는 후보 활동을 유사도 순으로 고른
+ * items/activityIndex/score/reason 형식의 JSON을 반환한다. 호출마다 설정된 지연을 주입한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gemini.provider", havingValue = "local")
+public class LocalLanguageModelProvider implements LanguageModelProvider {
+
+    private static final String CANDIDATE_SECTION = "=== 후보 활동 목록 ===";
+    private static final String REQUEST_SECTION = "=== 요청사항 ===";
+    private static final Pattern CANDIDATE_PATTERN = Pattern.compile("^\\[(\\d+)] (.*)$", Pattern.MULTILINE);
+    private static final Pattern TOP_K_PATTERN = Pattern.compile("활동 (\\d+)개를 추천");
+    private static final int DEFAULT_TOP_K = 5;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${gemini.local.dimension:768}")
+    private int dimension = 768;
+
+    @Value("${gemini.local.embedding-latency:0ms}")
+    private Duration embeddingLatency = Duration.ZERO;
+
+    @Value("${gemini.local.generation-latency:0ms}")
+    private Duration generationLatency = Duration.ZERO;
+
+    // 지연에 더해지는 0 ~ jitter 사이의 무작위 값
+    @Value("${gemini.local.latency-jitter:0ms}")
+    private Duration latencyJitter = Duration.ZERO;
+
+    @Override
+    public String embeddingModel() {
+        // 실제 모델 벡터와 섞이지 않도록 별도 이름으로 저장
+        return "local/hash-ngram-" + dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        simulateLatency(embeddingLatency);
+        return hashEmbedding(text, dimension);
+    }
+
+    @Override
+    public List<float[]> embedBatch(List<String> texts) {
+        // 실제 API처럼 묶음 요청 한 번에 한 번의 왕복 지연
+        simulateLatency(embeddingLatency);
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(hashEmbedding(text, dimension));
+        }
+        return vectors;
+    }
+
+    @Override
+    public String generateText(String userMessage, List<GeminiService.ChatMessage> conversationHistory) {
+        simulateLatency(generationLatency);
+        String prompt = userMessage == null ? "" : userMessage;
+        int candidateStart = prompt.indexOf(CANDIDATE_SECTION);
+        if (candidateStart < 0) {
+            return "[local] 요청을 확인했습니다: " + abbreviate(prompt.trim(), 200);
+        }
+        return recommendationJson(prompt, candidateStart);
+    }
+
+    /**
+     * 단어 unigram과 단어 내부 문자 2/3-gram을 부호 있는 해싱으로 누적 (feature hashing)
+     */
+    static float[] hashEmbedding(String text, int dimension) {
+        float[] vector = new float[dimension];
+        String normalized = QueryEmbeddingCache.normalize(text);
+        for (String word : normalized.split("[^\\p{L}\\p{N}+#]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            addFeature(vector, "w:" + word, 1.0f);
+            String padded = "^" + word + "$";
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= padded.length(); i++) {
+                    addFeature(vector, padded.substring(i, i + n), 0.5f);
+                }
+            }
+        }
+        // 빈 텍스트는 0 벡터 대신 고정 방향으로 (정규화 가능하도록)
+        if (normalized.isBlank()) {
+            vector[0] = 1.0f;
+        }
+        return vector;
+    }
+
+    private static void addFeature(float[] vector, String feature, float weight) {
+        long hash = mix(feature.hashCode());
+        int bucket = (int) Long.remainderUnsigned(hash, vector.length);
+        vector[bucket] += (hash & (1L << 63)) == 0 ? weight : -weight;
+    }
+
+    // splitmix64 마무리 단계 (String.hashCode는 JVM 간 동일)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 후보 블록과 프롬프트 앞부분(프로필 + 질의)의 유사도로 점수를 매겨 상위 topK개 반환
+    private String recommendationJson(String prompt, int candidateStart) {
+        Embedding context = Embedding.of(hashEmbedding(prompt.substring(0, candidateStart), dimension));
+        int requestStart = prompt.indexOf(REQUEST_SECTION, candidateStart);
+        String candidateSection = prompt.substring(candidateStart, requestStart < 0 ? prompt.length() : requestStart);
+
+        List<Candidate> candidates = new ArrayList<>();
+        Matcher matcher = CANDIDATE_PATTERN.matcher(candidateSection);
+        List<int[]> bounds = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+        while (matcher.find()) {
+            bounds.add(new int[]{Integer.parseInt(matcher.group(1)), matcher.start()});
+            titles.add(matcher.group(2).trim());
+        }
+        for (int i = 0; i < bounds.size(); i++) {
+            int end = i + 1 < bounds.size() ? bounds.get(i + 1)[1] : candidateSection.length();
+            String block = candidateSection.substring(bounds.get(i)[1], end);
+            double similarity = context.similarity(Embedding.of(hashEmbedding(block, dimension)));
+            candidates.add(new Candidate(bounds.get(i)[0], titles.get(i), similarity));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed()
+                .thenComparingInt(Candidate::index));
+
+        Matcher topKMatcher = TOP_K_PATTERN.matcher(prompt);
+        int topK = topKMatcher.find() ? Integer.parseInt(topKMatcher.group(1)) : DEFAULT_TOP_K;
+
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode items = root.putArray("items");
+        for (Candidate candidate : candidates.subList(0, Math.min(topK, candidates.size()))) {
+            double score = Math.round(Math.max(0.0, Math.min(100.0, 50.0 + 50.0 * candidate.similarity())) * 10.0) / 10.0;
+            items.addObject()
+                    .put("activityIndex", candidate.index())
+                    .put("score", score)
+                    .put("reason", String.format("'%s'은(는) 사용자의 프로필 및 질의와 관련도가 높은 활동입니다. (유사도 %.2f)",
+                            candidate.title(), candidate.similarity()));
+        }
+        return root.toString();
+    }
+
+    private void simulateLatency(Duration latency) {
+        long millis = latency.toMillis();
+        if (!latencyJitter.isZero()) {
+            millis += ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while simulating latency", e);
+        }
+    }
+
+    private static String abbreviate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    private record Candidate(int index, String title, double similarity) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.mentoai.mentoai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mentoai.mentoai.service.vector.Embedding;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 검색어/사용자 쿼리 임베딩 캐시 (W-TinyLFU, 크기 제한 + TTL)
+ * 키는 정규화된 텍스트와 임베딩 모델 이름이며, 적중/미스/축출 지표는 cache.* 메트릭으로 노출된다.
+ */
+@Component
+public class QueryEmbeddingCache {
+
+    private final Cache<CacheKey, Embedding> cache;
+
+    public QueryEmbeddingCache(
+            MeterRegistry meterRegistry,
+            @Value("${gemini.embedding-cache.maximum-size:10000}") long maximumSize,
+            @Value("${gemini.embedding-cache.ttl:6h}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "queryEmbedding");
+    }
+
+    /**
+     * 캐시된 임베딩 조회, 없으면 loader로 계산하여 저장 (같은 키의 동시 요청은 한 번만 계산)
+     */
+    public Embedding get(String model, String text, Function<String, Embedding> loader) {
+        String normalizedText = normalize(text);
+        return cache.get(new CacheKey(model, normalizedText), key -> loader.apply(key.text()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 유니코드 정규화, 공백 정리, 소문자화
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record CacheKey(String model, String text) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.mentoai.mentoai.service;
 
 import com.mentoai.mentoai.controller.dto.ActivityRecommendationResponse;
-import com.mentoai.mentoai.controller.dto.ActivityResponse;
+import com.mentoai.mentoai.controller.dto.ActivitySummaryResponse;
 import com.mentoai.mentoai.controller.dto.RecommendRequest;
 import com.mentoai.mentoai.controller.dto.RecommendResponse;
 import com.mentoai.mentoai.controller.dto.RoleFitRequest;
@@ -11,18 +11,28 @@ import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
 import com.mentoai.mentoai.entity.UserInterestEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
-import com.mentoai.mentoai.repository.TagRepository;
 import com.mentoai.mentoai.repository.UserInterestRepository;
 import com.mentoai.mentoai.repository.UserRepository;
+import com.mentoai.mentoai.service.catalog.ActivityCatalogSnapshot;
+import com.mentoai.mentoai.service.text.SearchPatterns;
+import com.mentoai.mentoai.service.vector.Embedding;
+import com.mentoai.mentoai.service.vector.HnswIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,15 +41,53 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RecommendService {
     
+    // 관심사 점수 규칙: 일치 태그마다 관심사 점수(1-5) × 10, 유형/캠퍼스 가산점
+    private static final double INTEREST_WEIGHT = 10.0;
+    private static final double STUDY_BONUS = 5.0;
+    private static final double CONTEST_BONUS = 3.0;
+    private static final double CAMPUS_BONUS = 2.0;
+    
     private final ActivityRepository activityRepository;
     private final UserInterestRepository userInterestRepository;
     private final UserRepository userRepository;
     private final GeminiService geminiService;
     private final RoleFitService roleFitService;
-    private final TagRepository tagRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserProfileService userProfileService;
     private final UserInterestService userInterestService;
     private final TargetRoleService targetRoleService;
+    private final ActivityEmbeddingService activityEmbeddingService;
+    private final ActivityEmbeddingIndexer activityEmbeddingIndexer;
+    private final ActivityVectorIndex activityVectorIndex;
+    private final ActivityKeywordIndex activityKeywordIndex;
+    private final SynonymDictionary synonymDictionary;
+    private final HybridRetriever hybridRetriever;
+    private final StageExecutor stageExecutor;
+    private final ActivityCatalog activityCatalog;
+    private final UserProfileEmbeddingService userProfileEmbeddingService;
+    private final UserProfileEmbeddingIndexer userProfileEmbeddingIndexer;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 검색 방식: cascade(임베딩 실패/무결과 시 키워드) | hybrid(동시 실행 후 RRF 병합)
+    @Value("${search.mode:cascade}")
+    private String searchMode = "cascade";
+    
+    // 하이브리드 검색 전체 지연 예산 및 경로별 제한 시간
+    @Value("${search.hybrid.budget-ms:800}")
+    private long hybridBudgetMs = 800;
+    
+    @Value("${search.hybrid.vector-timeout-ms:700}")
+    private long hybridVectorTimeoutMs = 700;
+    
+    @Value("${search.hybrid.keyword-timeout-ms:300}")
+    private long hybridKeywordTimeoutMs = 300;
+    
+    @Value("${search.hybrid.rrf-k:60}")
+    private int hybridRrfK = 60;
+    
+    // 점수 포함 추천의 요청당 마감 시간 (RoleFit, 임베딩 단계 대기 한도)
+    @Value("${recommend.with-scores.deadline-ms:1500}")
+    private long withScoresDeadlineMs = 1500;
     
     // 사용자 맞춤 활동 추천
     public List<ActivityEntity> getRecommendations(Long userId, Integer limit, String type, Boolean campusOnly) {
@@ -57,6 +105,11 @@ public class RecommendService {
             return List.of();
         }
         
+        // 카탈로그 스냅샷이 있으면 전체 활동을 대상으로 점수 계산
+        if (activityCatalog.isReady()) {
+            return recommendFromCatalog(userInterests, limit, type, campusOnly);
+        }
+        
         // 관심사 기반 추천 로직
         List<ActivityEntity> recommendations = new ArrayList<>();
         
@@ -97,6 +150,44 @@ public class RecommendService {
         return recommendations;
     }
     
+    // 카탈로그 스냅샷 전체에서 관심사 점수 상위 limit개를 고른 뒤 해당 활동만 조회
+    private List<ActivityEntity> recommendFromCatalog(
+            List<UserInterestEntity> userInterests, Integer limit, String type, Boolean campusOnly) {
+        ActivityCatalogSnapshot.Filter filter = new ActivityCatalogSnapshot.Filter(
+                type != null ? ActivityType.valueOf(type.toUpperCase()).ordinal() : ActivityCatalogSnapshot.ANY,
+                campusOnly,
+                ActivityCatalogSnapshot.ANY,
+                true // findByFilters와 같이 일정이 없거나 접수 마감일이 있는 활동만
+        );
+        List<Long> rankedIds = activityCatalog.snapshot().topK(interestScorer(userInterests), filter, limit).stream()
+                .map(ActivityCatalogSnapshot.ScoredActivity::id)
+                .toList();
+        
+        Map<Long, ActivityEntity> activities = activityRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(ActivityEntity::getId, activity -> activity));
+        return rankedIds.stream()
+                .map(activities::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    // calculateActivityScore와 같은 규칙을 스냅샷 점수 계산용 배열로 변환
+    private static ActivityCatalogSnapshot.InterestScorer interestScorer(List<UserInterestEntity> userInterests) {
+        TreeMap<Long, Double> weights = new TreeMap<>();
+        for (UserInterestEntity interest : userInterests) {
+            weights.merge(interest.getTagId(), interest.getScore() * INTEREST_WEIGHT, Double::sum);
+        }
+        double[] typeBonus = new double[ActivityType.values().length];
+        typeBonus[ActivityType.STUDY.ordinal()] = STUDY_BONUS;
+        typeBonus[ActivityType.CONTEST.ordinal()] = CONTEST_BONUS;
+        return new ActivityCatalogSnapshot.InterestScorer(
+                weights.keySet().stream().mapToLong(Long::longValue).toArray(),
+                weights.values().stream().mapToDouble(Double::doubleValue).toArray(),
+                typeBonus,
+                CAMPUS_BONUS
+        );
+    }
+    
     // 활동 점수 계산 (관심사 기반)
     private double calculateActivityScore(ActivityEntity activity, List<UserInterestEntity> userInterests) {
         double score = 0.0;
@@ -107,7 +198,7 @@ public class RecommendService {
                 for (UserInterestEntity userInterest : userInterests) {
                     if (activityTag.getTag().getId().equals(userInterest.getTagId())) {
                         // 관심사 점수(1-5)를 0-50점 범위로 변환 (10배 증가)
-                        score += userInterest.getScore() * 10.0;
+                        score += userInterest.getScore() * INTEREST_WEIGHT;
                     }
                 }
             }
@@ -115,14 +206,14 @@ public class RecommendService {
         
         // 활동 유형 선호도 (간단한 규칙 기반)
         if (activity.getType() == ActivityType.STUDY) {
-            score += 5.0;  // 0.2 -> 5.0
+            score += STUDY_BONUS;  // 0.2 -> 5.0
         } else if (activity.getType() == ActivityType.CONTEST) {
-            score += 3.0;  // 0.1 -> 3.0
+            score += CONTEST_BONUS;  // 0.1 -> 3.0
         }
         
         // 캠퍼스 활동 가중치
         if (activity.getIsCampus() != null && activity.getIsCampus()) {
-            score += 2.0;  // 0.1 -> 2.0
+            score += CAMPUS_BONUS;  // 0.1 -> 2.0
         }
         
         return score;
@@ -142,6 +233,10 @@ public class RecommendService {
 
         int safeLimit = (limit == null || limit <= 0) ? 10 : limit;
         
+        if ("hybrid".equals(searchMode)) {
+            return hybridSearchWithScores(query, safeLimit, userId);
+        }
+        
         // Gemini 임베딩 기반 검색 시도
         try {
             List<SemanticSearchResult> embeddingResults = semanticSearchWithEmbedding(query, safeLimit, userId);
@@ -153,26 +248,10 @@ public class RecommendService {
         }
         
         // Fallback: 키워드 기반 검색
-        List<String> searchTerms = expandSearchTerms(query);
-        Map<ActivityEntity, Double> activityScores = new HashMap<>();
-        
-        for (String term : searchTerms) {
-            Pageable pageable = PageRequest.of(0, safeLimit * 2, Sort.by(Sort.Direction.DESC, "createdAt"));
-            
-            List<ActivityEntity> results = activityRepository.findByFilters(
-                    term.toLowerCase(),
-                    null, // 타입 필터 없음
-                    null, // 캠퍼스 필터 없음
-                    null, // 상태 필터 없음
-                    pageable
-            ).getContent();
-            
-            // 각 활동에 대해 점수 계산
-            for (ActivityEntity activity : results) {
-                double score = calculateSearchScore(activity, term, searchTerms);
-                activityScores.merge(activity, score, Double::sum);
-            }
-        }
+        List<String> searchTerms = synonymDictionary.expand(query);
+        Map<ActivityEntity, Double> activityScores = activityKeywordIndex.isReady()
+                ? keywordIndexScores(searchTerms, safeLimit * 2)
+                : fullTextSearchScores(searchTerms, safeLimit);
         
         // 사용자 관심사 기반 가중치 적용
         if (userId != null && !userId.isEmpty()) {
@@ -199,32 +278,103 @@ public class RecommendService {
                 .collect(Collectors.toList());
     }
     
-    // Gemini 임베딩 기반 의미 검색
+    // 벡터 검색과 키워드 검색을 동시에 실행하고 RRF로 병합 (예산 안에 끝난 경로만 반영)
+    private List<SemanticSearchResult> hybridSearchWithScores(String query, int limit, String userId) {
+        int candidateCount = limit * 3;
+        List<List<Long>> rankings = hybridRetriever.run(List.of(
+                new HybridRetriever.Leg("vector", () -> vectorSearchIds(query, candidateCount), Duration.ofMillis(hybridVectorTimeoutMs)),
+                new HybridRetriever.Leg("keyword", () -> keywordSearchIds(query, candidateCount), Duration.ofMillis(hybridKeywordTimeoutMs))
+        ), Duration.ofMillis(hybridBudgetMs));
+        
+        Map<Long, Double> fused = HybridRetriever.reciprocalRankFusion(rankings, hybridRrfK);
+        List<Long> candidateIds = fused.keySet().stream().limit(candidateCount).collect(Collectors.toList());
+        Map<Long, ActivityEntity> activitiesById = activityRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(ActivityEntity::getId, activity -> activity));
+        
+        // 두 경로 모두 1위일 때 100점이 되도록 정규화
+        double maxScore = rankings.size() / (hybridRrfK + 1.0);
+        Map<ActivityEntity, Double> activityScores = new LinkedHashMap<>();
+        for (Long activityId : candidateIds) {
+            ActivityEntity activity = activitiesById.get(activityId);
+            if (activity != null) {
+                activityScores.put(activity, fused.get(activityId) / maxScore * 100);
+            }
+        }
+        
+        // 사용자 관심사 기반 가중치 적용
+        if (userId != null && !userId.isEmpty()) {
+            try {
+                List<UserInterestEntity> userInterests = userInterestRepository.findByUserIdOrderByScoreDesc(Long.valueOf(userId));
+                if (!userInterests.isEmpty()) {
+                    activityScores.replaceAll((activity, score) ->
+                            score * 0.7 + calculateActivityScore(activity, userInterests) * 30); // 검색 70%, 관심사 30%
+                }
+            } catch (NumberFormatException e) {
+                // userId가 잘못된 형식이면 무시
+            }
+        }
+        
+        return activityScores.entrySet().stream()
+                .sorted(Map.Entry.<ActivityEntity, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new SemanticSearchResult(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+    
+    // 벡터 경로: 최소 유사도 이상인 이웃 ID (유사도 순)
+    private List<Long> vectorSearchIds(String query, int count) {
+        if (!activityVectorIndex.isReady()) {
+            return List.of();
+        }
+        return activityVectorIndex.search(geminiService.embedQuery(query), count).stream()
+                .filter(neighbor -> neighbor.similarity() > 0.3)
+                .map(HnswIndex.SearchResult::id)
+                .collect(Collectors.toList());
+    }
+    
+    // 키워드 경로: 동의어 확장 후 BM25 인덱스(적재 전이면 전문 검색) 순위
+    private List<Long> keywordSearchIds(String query, int count) {
+        List<String> searchTerms = synonymDictionary.expand(query);
+        if (activityKeywordIndex.isReady()) {
+            return activityKeywordIndex.search(searchTerms, count).stream()
+                    .map(ActivityKeywordIndex.SearchResult::id)
+                    .collect(Collectors.toList());
+        }
+        String tsQuery = SearchPatterns.anyOf(searchTerms);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        return activityRepository.searchRanked(
+                query, tsQuery, SearchPatterns.contains(query),
+                null, null, null, false, List.of(""), count, 0
+        ).stream().map(ActivityRepository.RankedActivity::getActivityId).collect(Collectors.toList());
+    }
+    
+    // Gemini 임베딩 기반 의미 검색 (HNSW 인덱스로 전체 카탈로그에서 후보 탐색)
     private List<SemanticSearchResult> semanticSearchWithEmbedding(String query, int limit, String userId) {
-        // 검색어 임베딩 생성
-        List<Double> queryEmbedding = geminiService.generateEmbedding(query);
+        if (!activityVectorIndex.isReady()) {
+            return List.of();
+        }
         
-        // 활동 목록 조회 (최근 활동 위주)
-        Pageable pageable = PageRequest.of(0, limit * 3, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<ActivityEntity> activities = activityRepository.findByFilters(
-                null, null, null, null, pageable
-        ).getContent();
+        // 검색어 임베딩 생성
+        Embedding queryEmbedding = geminiService.embedQuery(query);
+        List<HnswIndex.SearchResult> neighbors = activityVectorIndex.search(queryEmbedding, limit * 3);
         
-        // 각 활동의 텍스트를 임베딩으로 변환하고 유사도 계산
+        Map<Long, ActivityEntity> activitiesById = activityRepository.findAllById(
+                neighbors.stream().map(HnswIndex.SearchResult::id).collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(ActivityEntity::getId, activity -> activity));
         Map<ActivityEntity, Double> activityScores = new HashMap<>();
         
-        for (ActivityEntity activity : activities) {
-            try {
-                String activityText = buildActivityText(activity);
-                List<Double> activityEmbedding = geminiService.generateEmbedding(activityText);
-                
-                double similarity = geminiService.cosineSimilarity(queryEmbedding, activityEmbedding);
-                
-                if (similarity > 0.3) { // 최소 유사도 임계값
-                    activityScores.put(activity, similarity * 100); // 0-100 점수로 변환
-                }
-            } catch (Exception e) {
-                log.warn("Failed to generate embedding for activity {}: {}", activity.getId(), e.getMessage());
+        for (HnswIndex.SearchResult neighbor : neighbors) {
+            ActivityEntity activity = activitiesById.get(neighbor.id());
+            if (activity == null) {
+                continue;
+            }
+            
+            double similarity = neighbor.similarity();
+            
+            if (similarity > 0.3) { // 최소 유사도 임계값
+                activityScores.put(activity, similarity * 100); // 0-100 점수로 변환
             }
         }
         
@@ -253,68 +403,61 @@ public class RecommendService {
                 .collect(Collectors.toList());
     }
     
-    // 활동의 제목, 내용, 태그를 결합하여 텍스트 생성
-    private String buildActivityText(ActivityEntity activity) {
-        StringBuilder text = new StringBuilder();
+    // 저장된 활동 임베딩 조회, 누락된 활동은 비동기로 채움
+    private Map<Long, Embedding> findActivityEmbeddings(List<Long> activityIds) {
+        Map<Long, Embedding> embeddings = activityEmbeddingService.findEmbeddings(activityIds);
         
-        if (activity.getTitle() != null) {
-            text.append(activity.getTitle()).append(" ");
-        }
-        
-        if (activity.getSummary() != null) {
-            text.append(activity.getSummary()).append(" ");
-        }
-        
-        if (activity.getContent() != null) {
-            // 내용이 너무 길면 앞부분만 사용
-            String content = activity.getContent();
-            if (content.length() > 500) {
-                content = content.substring(0, 500);
-            }
-            text.append(content).append(" ");
+        List<Long> missingIds = activityIds.stream()
+                .filter(id -> !embeddings.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            log.debug("Activity embeddings missing for {} activities, scheduling refresh", missingIds.size());
+            activityEmbeddingIndexer.refreshAsync(missingIds);
         }
+        return embeddings;
+    }
+    
+    // 키워드 인덱스(BM25) 한 번의 질의로 검색
+    private Map<ActivityEntity, Double> keywordIndexScores(List<String> searchTerms, int limit) {
+        List<ActivityKeywordIndex.SearchResult> hits = activityKeywordIndex.search(searchTerms, limit);
+        Map<Long, ActivityEntity> activitiesById = activityRepository.findAllById(
+                hits.stream().map(ActivityKeywordIndex.SearchResult::id).collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(ActivityEntity::getId, activity -> activity));
         
-        // 태그 추가
-        if (activity.getActivityTags() != null) {
-            for (var activityTag : activity.getActivityTags()) {
-                if (activityTag.getTag() != null && activityTag.getTag().getName() != null) {
-                    text.append(activityTag.getTag().getName()).append(" ");
-                }
+        Map<ActivityEntity, Double> activityScores = new HashMap<>();
+        for (ActivityKeywordIndex.SearchResult hit : hits) {
+            ActivityEntity activity = activitiesById.get(hit.id());
+            if (activity != null) {
+                activityScores.put(activity, hit.score());
             }
         }
-        
-        return text.toString().trim();
+        return activityScores;
     }
     
-    // 검색어 확장 (동의어, 관련어 추가)
-    private List<String> expandSearchTerms(String query) {
-        List<String> terms = new ArrayList<>();
-        terms.add(query); // 원본 검색어
-        
-        // 간단한 동의어 매핑
-        Map<String, List<String>> synonyms = Map.of(
-            "개발", List.of("프로그래밍", "코딩", "소프트웨어"),
-            "디자인", List.of("UI", "UX", "그래픽"),
-            "마케팅", List.of("홍보", "광고", "브랜딩"),
-            "스터디", List.of("공부", "학습", "연구"),
-            "취업", List.of("채용", "구직", "인턴"),
-            "창업", List.of("스타트업", "사업", "비즈니스")
-        );
+    // 인덱스 적재 전에는 확장 검색어 전체를 OR로 묶은 전문 검색 한 번으로 후보 조회
+    private Map<ActivityEntity, Double> fullTextSearchScores(List<String> searchTerms, int safeLimit) {
+        Map<ActivityEntity, Double> activityScores = new HashMap<>();
+        String tsQuery = SearchPatterns.anyOf(searchTerms);
+        if (tsQuery == null) {
+            return activityScores;
+        }
         
-        String lowerQuery = query.toLowerCase();
-        for (Map.Entry<String, List<String>> entry : synonyms.entrySet()) {
-            if (lowerQuery.contains(entry.getKey())) {
-                terms.addAll(entry.getValue());
-            }
-            for (String synonym : entry.getValue()) {
-                if (lowerQuery.contains(synonym)) {
-                    terms.add(entry.getKey());
-                    terms.addAll(entry.getValue());
-                }
+        List<ActivityRepository.RankedActivity> ranked = activityRepository.searchRanked(
+                searchTerms.get(0), tsQuery, SearchPatterns.contains(searchTerms.get(0)),
+                null, null, null, false, List.of(""),
+                safeLimit * 2 * searchTerms.size(), 0);
+        List<ActivityEntity> results = activityRepository.findAllById(
+                ranked.stream().map(ActivityRepository.RankedActivity::getActivityId).collect(Collectors.toList()));
+        
+        // 각 활동에 대해 검색어별 점수 합산
+        for (ActivityEntity activity : results) {
+            double score = 0.0;
+            for (String term : searchTerms) {
+                score += calculateSearchScore(activity, term, searchTerms);
             }
+            activityScores.put(activity, score);
         }
-        
-        return terms.stream().distinct().collect(Collectors.toList());
+        return activityScores;
     }
     
     // 검색 점수 계산
@@ -404,107 +547,123 @@ public class RecommendService {
     }
     
     // 점수 포함 활동 추천
+    // 원격 임베딩/단계 대기 동안 DB 연결을 잡지 않도록 조회만 짧은 트랜잭션에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ActivityRecommendationResponse> getRecommendationsWithScores(
             Long userId, Integer limit, String type, Boolean campusOnly, String targetRole) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(withScoresDeadlineMs);
+        
+        // 1단계: 후보 활동과 관심사 조회, 지연 로딩이 필요한 값은 트랜잭션 안에서 미리 계산
+        ScoringInput input = transactionTemplate.execute(status ->
+                loadScoringInput(userId, limit, type, campusOnly, targetRole));
+        List<ScoringCandidate> candidates = input.candidates();
+        List<Long> activityIds = candidates.stream().map(ScoringCandidate::activityId).toList();
+        
+        // 2단계: 서로 독립적인 RoleFit 계산, 활동 임베딩 조회, 검색어 임베딩을 동시에 실행
+        Future<Double> roleFitFuture = targetRole != null && !targetRole.trim().isEmpty()
+                ? stageExecutor.submit("roleFit", () -> roleFitService.calculateRoleFit(userId, new RoleFitRequest(targetRole, null)).roleFitScore())
+                : CompletableFuture.completedFuture(null);
+        Future<Map<Long, Embedding>> activityEmbeddingsFuture =
+                stageExecutor.submit("activityEmbeddings", () -> findActivityEmbeddings(activityIds));
+        Future<Embedding> userQueryEmbeddingFuture = candidates.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : userQueryEmbedding(userId, targetRole, input.userInterests());
+        
+        // 마감 시각까지 끝나지 않은 단계는 해당 점수 없이 계산
+        Double roleFitScore = stageExecutor.await("roleFit", roleFitFuture, deadline, null);
+        Map<Long, Embedding> activityEmbeddings = stageExecutor.await("activityEmbeddings", activityEmbeddingsFuture, deadline, Map.of());
+        Embedding userQueryEmbedding = stageExecutor.await("userQueryEmbedding", userQueryEmbeddingFuture, deadline, null);
+        
+        // 3단계: 후보별 점수 계산 (원격 호출 없이 메모리 연산만 수행)
+        List<ActivityRecommendationResponse> scoredActivities = new ArrayList<>();
+        
+        for (ScoringCandidate candidate : candidates) {
+            // 1. 관심사 기반 점수 (0-100)
+            double interestScore = candidate.interestScore();
+            
+            // 2. Gemini 임베딩 기반 점수 (0-100) - 활동 텍스트 기반
+            double embeddingScore = 0.0;
+            Embedding activityEmbedding = activityEmbeddings.get(candidate.activityId());
+            if (userQueryEmbedding != null && activityEmbedding != null) {
+                double similarity = userQueryEmbedding.similarity(activityEmbedding);
+                embeddingScore = similarity * 100;
+            }
+            
+            // 3. 최종 추천 점수 계산
+            // 공식: 0.5 * 임베딩 점수 + 0.3 * RoleFitScore + 0.2 * 관심사 점수
+            double recommendationScore;
+            if (roleFitScore != null) {
+                recommendationScore = 0.5 * embeddingScore + 0.3 * roleFitScore + 0.2 * interestScore;
+            } else {
+                recommendationScore = 0.7 * embeddingScore + 0.3 * interestScore;
+            }
+            
+            scoredActivities.add(new ActivityRecommendationResponse(
+                    candidate.summary(),
+                    Math.round(recommendationScore * 10.0) / 10.0, // 소수점 1자리
+                    roleFitScore,
+                    candidate.expectedScoreIncrease()
+            ));
+        }
+        
+        // 점수 순으로 정렬하여 반환
+        return scoredActivities.stream()
+                .sorted(Comparator.comparing(ActivityRecommendationResponse::recommendationScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+    
+    // 점수 계산용 후보 (태그/일정 지연 로딩이 필요한 값은 조회 트랜잭션 안에서 계산해 둠)
+    private record ScoringCandidate(Long activityId, double interestScore, ActivitySummaryResponse summary,
+                                    Double expectedScoreIncrease) {
+    }
+    
+    private record ScoringInput(List<ScoringCandidate> candidates, List<UserInterestEntity> userInterests) {
+    }
+    
+    private ScoringInput loadScoringInput(Long userId, Integer limit, String type, Boolean campusOnly, String targetRole) {
         // 사용자 존재 확인
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
         }
         
-        // 기본 추천 활동 조회
         List<ActivityEntity> activities = getRecommendations(userId, limit * 2, type, campusOnly);
-        
-        // 사용자 관심사 조회
         List<UserInterestEntity> userInterests = userInterestRepository.findByUserIdOrderByScoreDesc(userId);
         
-        // RoleFitScore 계산 (타겟 직무가 있는 경우)
-        Double roleFitScore = null;
-        if (targetRole != null && !targetRole.trim().isEmpty()) {
-            try {
-                var roleFitResponse = roleFitService.calculateRoleFit(userId, new RoleFitRequest(targetRole, null));
-                roleFitScore = roleFitResponse.roleFitScore();
-            } catch (Exception e) {
-                log.warn("Failed to calculate role fit score for user {} and role {}: {}", userId, targetRole, e.getMessage());
-            }
-        }
-        
-        // 각 활동에 대해 점수 계산
-        Map<ActivityEntity, ActivityRecommendationResponse> scoredActivities = new HashMap<>();
-        
+        List<ScoringCandidate> candidates = new ArrayList<>(activities.size());
         for (ActivityEntity activity : activities) {
             try {
-                // 1. 관심사 기반 점수 (0-100)
-                double interestScore = calculateActivityScore(activity, userInterests) * 100;
-                
-                // 2. Gemini 임베딩 기반 점수 (0-100) - 활동 텍스트 기반
-                double embeddingScore = 0.0;
-                try {
-                    String activityText = buildActivityText(activity);
-                    List<Double> activityEmbedding = geminiService.generateEmbedding(activityText);
-                    
-                    // 사용자 프로필 기반 검색어 생성 (간단한 키워드 추출)
-                    String userQuery = buildUserQuery(userId, targetRole);
-                    if (userQuery != null && !userQuery.trim().isEmpty()) {
-                        List<Double> queryEmbedding = geminiService.generateEmbedding(userQuery);
-                        double similarity = geminiService.cosineSimilarity(queryEmbedding, activityEmbedding);
-                        embeddingScore = similarity * 100;
-                    }
-                } catch (Exception e) {
-                    log.debug("Failed to calculate embedding score for activity {}: {}", activity.getId(), e.getMessage());
-                }
-                
-                // 3. 최종 추천 점수 계산
-                // 공식: 0.5 * 임베딩 점수 + 0.3 * RoleFitScore + 0.2 * 관심사 점수
-                double recommendationScore;
-                if (roleFitScore != null) {
-                    recommendationScore = 0.5 * embeddingScore + 0.3 * roleFitScore + 0.2 * interestScore;
-                } else {
-                    recommendationScore = 0.7 * embeddingScore + 0.3 * interestScore;
-                }
-                
-                // 4. 예상 점수 증가량 계산
-                Double expectedScoreIncrease = calculateExpectedScoreIncrease(activity, userId, targetRole);
-                
-                ActivityResponse activityResponse = ActivityMapper.toResponse(activity);
-                scoredActivities.put(activity, new ActivityRecommendationResponse(
-                        activityResponse,
-                        Math.round(recommendationScore * 10.0) / 10.0, // 소수점 1자리
-                        roleFitScore,
-                        expectedScoreIncrease
+                candidates.add(new ScoringCandidate(
+                        activity.getId(),
+                        calculateActivityScore(activity, userInterests) * 100,
+                        ActivityMapper.toSummary(activity),
+                        calculateExpectedScoreIncrease(activity, userId, targetRole)
                 ));
             } catch (Exception e) {
                 log.warn("Failed to calculate score for activity {}: {}", activity.getId(), e.getMessage());
             }
         }
-        
-        // 점수 순으로 정렬하여 반환
-        return scoredActivities.values().stream()
-                .sorted(Comparator.comparing(ActivityRecommendationResponse::recommendationScore).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return new ScoringInput(candidates, userInterests);
     }
     
-    // 사용자 쿼리 생성 (프로필 기반)
-    private String buildUserQuery(Long userId, String targetRole) {
-        StringBuilder query = new StringBuilder();
-        
-        if (targetRole != null && !targetRole.trim().isEmpty()) {
-            query.append(targetRole).append(" ");
+    // 사용자 검색어 임베딩 (저장된 프로필 임베딩 우선, 없거나 요청 직무가 다르면 검색어를 만들어 임베딩)
+    private Future<Embedding> userQueryEmbedding(Long userId, String targetRole, List<UserInterestEntity> userInterests) {
+        Optional<UserProfileEmbeddingService.ProfileEmbedding> stored = userProfileEmbeddingService.findEmbedding(userId, targetRole);
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored.get().embedding());
         }
         
-        // 사용자 관심사 태그 추가
-        List<UserInterestEntity> userInterests = userInterestRepository.findByUserIdOrderByScoreDesc(userId);
-        if (!userInterests.isEmpty()) {
-            for (UserInterestEntity interest : userInterests) {
-                tagRepository.findById(interest.getTagId()).ifPresent(tag -> {
-                    if (tag.getName() != null) {
-                        query.append(tag.getName()).append(" ");
-                    }
-                });
-            }
+        String queryRole = targetRole;
+        if (targetRole == null || targetRole.trim().isEmpty()) {
+            // 프로필 기준 벡터가 아직 없으면 다음 요청부터 재사용하도록 비동기로 채움
+            userProfileEmbeddingIndexer.refreshAsync(userId);
+            // 저장될 벡터와 같은 검색어가 되도록 프로필의 목표 직무 이름 사용
+            queryRole = userProfileEmbeddingService.findProfileTargetRole(userId);
         }
-        
-        return query.toString().trim();
+        String userQuery = userProfileEmbeddingService.buildQuery(queryRole, userInterests);
+        return userQuery.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : stageExecutor.submit("userQueryEmbedding", () -> geminiService.embedQuery(userQuery));
     }
     
     // 활동 완료 시 예상 점수 증가량 계산
@@ -565,13 +724,7 @@ public class RecommendService {
         if (candidateActivities.isEmpty() && !userInterests.isEmpty()) {
             log.warn("No candidate activities found after retrieval, trying user interest-based search");
             // 사용자 관심사 태그로 필터링된 활동만 반환
-            List<String> interestTagNames = userInterests.stream()
-                    .map(interest -> tagRepository.findById(interest.getTagId())
-                            .map(tag -> tag.getName())
-                            .orElse(null))
-                    .filter(name -> name != null)
-                    .distinct()
-                    .collect(Collectors.toList());
+            List<String> interestTagNames = interestTagNames(userInterests);
             
             if (!interestTagNames.isEmpty()) {
                 Pageable pageable = PageRequest.of(0, request.getTopKOrDefault() * 2, 
@@ -674,13 +827,7 @@ public class RecommendService {
         if (activities.isEmpty() && !userInterests.isEmpty()) {
             log.warn("No relevant activities found, using user interest-based recommendations");
             // 사용자 관심사 태그로 필터링된 활동만 반환
-            List<String> interestTagNames = userInterests.stream()
-                    .map(interest -> tagRepository.findById(interest.getTagId())
-                            .map(tag -> tag.getName())
-                            .orElse(null))
-                    .filter(name -> name != null)
-                    .distinct()
-                    .collect(Collectors.toList());
+            List<String> interestTagNames = interestTagNames(userInterests);
             
             if (!interestTagNames.isEmpty()) {
                 Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -695,6 +842,17 @@ public class RecommendService {
         return activities;
     }
     
+    // 관심 태그 이름 (관심도 순, 참조 데이터 캐시에서 한 번에 조회)
+    private List<String> interestTagNames(List<UserInterestEntity> userInterests) {
+        Map<Long, String> tagNames = referenceDataCache.tagNames(
+                userInterests.stream().map(UserInterestEntity::getTagId).distinct().toList());
+        return userInterests.stream()
+                .map(interest -> tagNames.get(interest.getTagId()))
+                .filter(name -> name != null)
+                .distinct()
+                .toList();
+    }
+    
     /**
      * RAG 프롬프트 구성
      */
@@ -724,12 +882,7 @@ public class RecommendService {
         
         // 관심 태그
         if (!userInterests.isEmpty()) {
-            List<String> interestTags = userInterests.stream()
-                    .map(interest -> tagRepository.findById(interest.getTagId())
-                            .map(tag -> tag.getName())
-                            .orElse(""))
-                    .filter(name -> !name.isEmpty())
-                    .toList();
+            List<String> interestTags = interestTagNames(userInterests);
             if (!interestTags.isEmpty()) {
                 prompt.append("관심 태그: ").append(String.join(", ", interestTags)).append("\n");
             }
@@ -823,7 +976,7 @@ public class RecommendService {
                     
                     if (activityIndex >= 0 && activityIndex < candidateActivities.size()) {
                         ActivityEntity activity = candidateActivities.get(activityIndex);
-                        ActivityResponse activityResponse = ActivityMapper.toResponse(activity);
+                        ActivitySummaryResponse activityResponse = ActivityMapper.toSummary(activity);
                         items.add(new RecommendResponse.RecommendItem(
                                 activityResponse,
                                 score,
@@ -857,7 +1010,7 @@ public class RecommendService {
         // 간단한 텍스트 파싱 (활동 제목 매칭)
         for (ActivityEntity activity : candidateActivities.stream().limit(topK).toList()) {
             if (geminiResponse.contains(activity.getTitle())) {
-                ActivityResponse activityResponse = ActivityMapper.toResponse(activity);
+                ActivitySummaryResponse activityResponse = ActivityMapper.toSummary(activity);
                 items.add(new RecommendResponse.RecommendItem(
                         activityResponse,
                         75.0, // 기본 점수
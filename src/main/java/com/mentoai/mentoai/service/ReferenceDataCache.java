@@ -0,0 +1,101 @@
+package com.mentoai.mentoai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mentoai.mentoai.controller.dto.TargetRoleResponse;
+import com.mentoai.mentoai.entity.TagEntity;
+import com.mentoai.mentoai.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 거의 바뀌지 않는 참조 데이터(태그 이름, 목표 직무 목록) 캐시
+ * 쓰기 서비스(TagService, TargetRoleService)가 커밋 후 무효화하고, 다른 인스턴스의 변경은 TTL로 반영된다.
+ * 적중/미스 지표는 cache.* 메트릭(tagName, targetRoles)으로 노출된다.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final String ALL_ROLES = "all";
+
+    private final TagRepository tagRepository;
+    private final Cache<Long, String> tagNames;
+    private final Cache<String, List<TargetRoleResponse>> targetRoles;
+
+    public ReferenceDataCache(
+            TagRepository tagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${reference-cache.tags.maximum-size:10000}") long maximumTags,
+            @Value("${reference-cache.ttl:10m}") Duration ttl
+    ) {
+        this.tagRepository = tagRepository;
+        this.tagNames = Caffeine.newBuilder()
+                .maximumSize(maximumTags)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.targetRoles = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tagNames, "tagName");
+        CaffeineCacheMetrics.monitor(meterRegistry, targetRoles, "targetRoles");
+    }
+
+    public Optional<String> tagName(Long tagId) {
+        return Optional.ofNullable(tagNames(List.of(tagId)).get(tagId));
+    }
+
+    /**
+     * 태그 ID → 이름, 캐시에 없는 ID만 한 번에 조회 (존재하지 않는 ID는 결과와 캐시에서 제외)
+     */
+    public Map<Long, String> tagNames(Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return Map.of();
+        }
+        return tagNames.getAll(tagIds, missing -> tagRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(TagEntity::getId, TagEntity::getName)));
+    }
+
+    /**
+     * 전체 목표 직무 응답 목록, 없으면 loader로 적재
+     */
+    public List<TargetRoleResponse> targetRoles(Supplier<List<TargetRoleResponse>> loader) {
+        return targetRoles.get(ALL_ROLES, key -> List.copyOf(loader.get()));
+    }
+
+    public void invalidateTags() {
+        afterCommit(tagNames::invalidateAll);
+    }
+
+    public void invalidateTargetRoles() {
+        afterCommit(targetRoles::invalidateAll);
+    }
+
+    // 트랜잭션 중이면 커밋 이후 실행 (커밋 전에 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
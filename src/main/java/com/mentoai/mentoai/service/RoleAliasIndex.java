@@ -0,0 +1,229 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.service.text.AhoCorasick;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자유 입력 목표 직무(예: "백엔드 엔지니어")를 roleId로 해석하는 메모리 인덱스
+ * 직무 ID/이름 정확 일치 맵, 부분 문자열 트라이, 한/영 별칭 오토마톤으로 구성되어 해석 시 DB를 조회하지 않는다.
+ * 직무 변경 커밋 후 다시 만들고, 다른 인스턴스의 변경은 주기적 재적재로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleAliasIndex {
+
+    // 별칭(소문자) → 직무 키워드
+    private static final Map<String, String> ROLE_KEYWORDS = Map.ofEntries(
+            Map.entry("백엔드", "backend"),
+            Map.entry("backend", "backend"),
+            Map.entry("프론트엔드", "frontend"),
+            Map.entry("frontend", "frontend"),
+            Map.entry("풀스택", "fullstack"),
+            Map.entry("fullstack", "fullstack"),
+            Map.entry("데이터", "data"),
+            Map.entry("data", "data"),
+            Map.entry("ai", "ai"),
+            Map.entry("머신러닝", "ai"),
+            Map.entry("ml", "ai"),
+            Map.entry("devops", "devops"),
+            Map.entry("시스템", "system"),
+            Map.entry("system", "system"),
+            Map.entry("보안", "security"),
+            Map.entry("security", "security"),
+            Map.entry("모바일", "mobile"),
+            Map.entry("mobile", "mobile"),
+            Map.entry("ios", "ios"),
+            Map.entry("android", "android")
+    );
+
+    private static final AhoCorasick<String> KEYWORDS = AhoCorasick.compile(ROLE_KEYWORDS);
+
+    private final TargetRoleRepository targetRoleRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 직무 목록을 다시 읽어 인덱스 교체 (기동 시, 직무 변경 커밋 후, 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${role-fit.alias-index.reload-interval-ms:300000}",
+            initialDelayString = "${role-fit.alias-index.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            List<TargetRoleEntity> roles = targetRoleRepository.findAll();
+            snapshot = compile(roles);
+            log.debug("Role alias index loaded: {} roles", roles.size());
+        } catch (Exception e) {
+            log.warn("Failed to load role alias index: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTargetRoleChanged(TargetRoleChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 목표 직무 해석 순서
+     * 1. roleId 정확 일치 2. 이름 일치(대소문자 무시) 3. roleId/이름 부분 일치 (이름 포함 우선)
+     * 4. 별칭 키워드 추출 후 부분 일치 5. 실패 시 정규화된 입력 그대로
+     */
+    public String resolve(String target) {
+        if (!StringUtils.hasText(target)) {
+            return "general";
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 직후 적재 전 호출
+            reload();
+            current = snapshot != null ? snapshot : compile(List.of());
+        }
+
+        String normalized = target.trim().toLowerCase(Locale.ROOT);
+
+        // 1. 정확한 roleId 매칭
+        if (current.roleIds().contains(normalized)) {
+            return normalized;
+        }
+
+        // 2. 이름으로 정확히 매칭
+        String byName = current.roleIdsByName().get(normalized);
+        if (byName != null) {
+            return byName;
+        }
+
+        // 3. 키워드로 부분 매칭 (이름에 키워드가 포함된 것 우선)
+        String byKeyword = current.findContaining(normalized);
+        if (byKeyword != null) {
+            return byKeyword;
+        }
+
+        // 4. 키워드 추출 및 매칭 (예: "백엔드 엔지니어" → "backend")
+        String extractedKeyword = extractRoleKeyword(normalized);
+        if (extractedKeyword != null && !extractedKeyword.equals(normalized)) {
+            String byExtracted = current.findContaining(extractedKeyword);
+            if (byExtracted != null) {
+                return byExtracted;
+            }
+        }
+
+        // 5. 매칭 실패 시 원본 반환
+        return normalized;
+    }
+
+    // 가장 앞에서 시작하는 별칭 (같은 위치면 긴 별칭) → 직무 키워드
+    static String extractRoleKeyword(String input) {
+        AhoCorasick.Match<String> best = null;
+        for (AhoCorasick.Match<String> match : KEYWORDS.findAll(input)) {
+            if (best == null || match.start() < best.start()
+                    || (match.start() == best.start() && match.end() > best.end())) {
+                best = match;
+            }
+        }
+        return best != null ? best.value() : null;
+    }
+
+    static Snapshot compile(List<TargetRoleEntity> roles) {
+        // DB 결과 순서 대신 roleId 순으로 고정하여 부분 일치 결과를 결정적으로 만듦
+        List<TargetRoleEntity> ordered = roles.stream()
+                .filter(role -> role.getRoleId() != null)
+                .sorted(Comparator.comparing(TargetRoleEntity::getRoleId))
+                .toList();
+
+        Set<String> roleIds = new HashSet<>();
+        Map<String, String> roleIdsByName = new HashMap<>();
+        List<String> orderedIds = new ArrayList<>();
+        SubstringTrie trie = new SubstringTrie();
+        for (int i = 0; i < ordered.size(); i++) {
+            TargetRoleEntity role = ordered.get(i);
+            orderedIds.add(role.getRoleId());
+            roleIds.add(role.getRoleId());
+            trie.add(role.getRoleId().toLowerCase(Locale.ROOT), i, false);
+            if (role.getName() != null) {
+                String name = role.getName().toLowerCase(Locale.ROOT);
+                roleIdsByName.putIfAbsent(name, role.getRoleId());
+                trie.add(name, i, true);
+            }
+        }
+        return new Snapshot(Set.copyOf(roleIds), Map.copyOf(roleIdsByName), List.copyOf(orderedIds), trie);
+    }
+
+    record Snapshot(Set<String> roleIds, Map<String, String> roleIdsByName,
+                    List<String> orderedIds, SubstringTrie trie) {
+
+        /**
+         * roleId 또는 이름(소문자)에 keyword를 포함하는 직무, 이름에 포함한 직무 우선
+         */
+        String findContaining(String keyword) {
+            SubstringTrie.Node node = trie.find(keyword);
+            if (node == null) {
+                return null;
+            }
+            return orderedIds.get(node.firstNamedRole != SubstringTrie.NONE ? node.firstNamedRole : node.firstRole);
+        }
+    }
+
+    /**
+     * 모든 접미사를 넣은 트라이 (접두사 탐색 = 부분 문자열 탐색)
+     * 각 노드에는 그 경로를 포함하는 첫 직무 순번만 저장하여 조회가 키워드 길이에 비례한다.
+     */
+    static final class SubstringTrie {
+
+        static final int NONE = -1;
+
+        private final Node root = new Node();
+
+        static final class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            // roleId 또는 이름에 경로 문자열을 포함하는 첫 직무
+            int firstRole = NONE;
+            // 이름에 경로 문자열을 포함하는 첫 직무
+            int firstNamedRole = NONE;
+        }
+
+        // 직무 순번 오름차순으로 호출되므로 처음 기록된 값이 가장 앞선 직무
+        void add(String text, int role, boolean isName) {
+            for (int start = 0; start < text.length(); start++) {
+                Node node = root;
+                for (int i = start; i < text.length(); i++) {
+                    node = node.children.computeIfAbsent(text.charAt(i), c -> new Node());
+                    if (node.firstRole == NONE) {
+                        node.firstRole = role;
+                    }
+                    if (isName && node.firstNamedRole == NONE) {
+                        node.firstNamedRole = role;
+                    }
+                }
+            }
+        }
+
+        Node find(String keyword) {
+            Node node = root;
+            for (int i = 0; i < keyword.length() && node != null; i++) {
+                node = node.children.get(keyword.charAt(i));
+            }
+            return node != root ? node : null;
+        }
+    }
+}
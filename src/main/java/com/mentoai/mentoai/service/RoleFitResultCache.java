@@ -0,0 +1,76 @@
+package com.mentoai.mentoai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mentoai.mentoai.controller.dto.RoleFitResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * RoleFit 계산 결과 캐시 (userId, profile_version, roleId, role_version 기준)
+ * 프로필/직무가 저장되면 버전이 올라가 이전 항목은 다시 조회되지 않으므로, 다른 인스턴스의 변경도 즉시 반영된다.
+ * 적중/미스 지표는 cache.* 메트릭(roleFit)으로 노출된다.
+ */
+@Component
+public class RoleFitResultCache {
+
+    // 프로필/직무가 없거나 아직 저장되지 않은 경우의 버전
+    public static final long NO_VERSION = -1L;
+
+    private final Cache<Key, RoleFitResponse> results;
+
+    public record Key(Long userId, long profileVersion, String roleId, long roleVersion) {
+    }
+
+    public RoleFitResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${role-fit.cache.maximum-size:50000}") long maximumSize,
+            @Value("${role-fit.cache.ttl:30m}") Duration ttl
+    ) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "roleFit");
+    }
+
+    public static Key key(Long userId, Long profileVersion, String roleId, Long roleVersion) {
+        return new Key(userId,
+                profileVersion != null ? profileVersion : NO_VERSION,
+                roleId,
+                roleVersion != null ? roleVersion : NO_VERSION);
+    }
+
+    public RoleFitResponse get(Key key, Supplier<RoleFitResponse> loader) {
+        return results.get(key, k -> loader.get());
+    }
+
+    public RoleFitResponse getIfPresent(Key key) {
+        return results.getIfPresent(key);
+    }
+
+    public RoleFitResponse put(Key key, RoleFitResponse response) {
+        results.put(key, response);
+        return response;
+    }
+
+    /**
+     * 프로필 저장 커밋 후 해당 사용자의 이전 버전 결과 정리 (정합성은 버전 키가 보장, 메모리 회수 목적)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        results.asMap().keySet().removeIf(key -> key.userId().equals(event.userId()));
+    }
+
+    public void evictRole(String roleId) {
+        results.asMap().keySet().removeIf(key -> key.roleId().equals(roleId));
+    }
+}
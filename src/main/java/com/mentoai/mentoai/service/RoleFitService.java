@@ -8,80 +8,71 @@ import com.mentoai.mentoai.controller.dto.RoleFitSimulationRequest;
 import com.mentoai.mentoai.controller.dto.RoleFitSimulationResponse;
 import com.mentoai.mentoai.controller.mapper.ActivityMapper;
 import com.mentoai.mentoai.entity.ActivityEntity;
-import com.mentoai.mentoai.entity.SkillLevel;
 import com.mentoai.mentoai.entity.TargetRoleEntity;
 import com.mentoai.mentoai.entity.UserEntity;
-import com.mentoai.mentoai.entity.UserProfileCertificationEntity;
 import com.mentoai.mentoai.entity.UserProfileEntity;
 import com.mentoai.mentoai.entity.UserProfileExperienceEntity;
-import com.mentoai.mentoai.entity.UserProfileSkill;
-import com.mentoai.mentoai.entity.WeightedMajor;
-import com.mentoai.mentoai.entity.WeightedSkill;
 import com.mentoai.mentoai.repository.TargetRoleRepository;
 import com.mentoai.mentoai.repository.UserProfileRepository;
 import com.mentoai.mentoai.repository.UserRepository;
+import com.mentoai.mentoai.service.rolefit.CompiledRoleSkills;
+import com.mentoai.mentoai.service.rolefit.RoleRequirements;
+import com.mentoai.mentoai.service.rolefit.UserSkillVector;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class RoleFitService {
 
+    private static final int MAX_RANKED_ROLES = 50;
+    // 직무 수가 적으면 병렬 분할 비용이 더 큼
+    private static final int PARALLEL_RANKING_THRESHOLD = 64;
+
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final TargetRoleRepository targetRoleRepository;
+    private final RoleSkillIndex roleSkillIndex;
+    private final RoleFitResultCache roleFitResultCache;
+    private final RoleAliasIndex roleAliasIndex;
     private final RecommendService recommendService;
 
     public RoleFitService(
             UserRepository userRepository,
             UserProfileRepository userProfileRepository,
             TargetRoleRepository targetRoleRepository,
+            RoleSkillIndex roleSkillIndex,
+            RoleFitResultCache roleFitResultCache,
+            RoleAliasIndex roleAliasIndex,
             @Lazy RecommendService recommendService) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.targetRoleRepository = targetRoleRepository;
+        this.roleSkillIndex = roleSkillIndex;
+        this.roleFitResultCache = roleFitResultCache;
+        this.roleAliasIndex = roleAliasIndex;
         this.recommendService = recommendService;
     }
 
     public RoleFitResponse calculateRoleFit(Long userId, RoleFitRequest request) {
-        UserEntity user = getUser(userId);
+        getUser(userId);
         UserProfileEntity profile = userProfileRepository.findById(userId).orElse(null);
-        
-        String targetRoleId = resolveTarget(request.target());
-        Optional<TargetRoleEntity> targetRoleOpt = targetRoleRepository.findById(targetRoleId);
-        TargetRoleEntity targetRole = targetRoleOpt.orElse(null);
-
-        double skillFit = calculateSkillFit(profile, targetRole);
-        double experienceFit = calculateExperienceFit(profile, targetRole);
-        double educationFit = calculateEducationFit(profile, targetRole);
-        double evidenceFit = calculateEvidenceFit(profile, targetRole);
-
-        // RoleFitScore = 0.50 * SkillFit + 0.30 * ExperienceFit + 0.15 * EducationFit + 0.05 * EvidenceFit
-        double roleFitScore = roundScore((0.50 * skillFit + 0.30 * experienceFit + 0.15 * educationFit + 0.05 * evidenceFit) * 100);
-
-        List<RoleFitResponse.MissingSkill> missingSkills = buildMissingSkills(profile, targetRole);
-        List<String> recommendations = buildRecommendations(targetRole);
-
-        return new RoleFitResponse(
-                targetRoleId,
-                roleFitScore,
-                new RoleFitResponse.Breakdown(skillFit, experienceFit, educationFit, evidenceFit),
-                missingSkills,
-                recommendations
-        );
+        return scoreTarget(userId, profile, lazySnapshot(profile), roleAliasIndex.resolve(request.target()));
     }
 
     public List<RoleFitResponse> calculateRoleFitBatch(Long userId, RoleFitBatchRequest request) {
@@ -89,8 +80,55 @@ public class RoleFitService {
                 ? request.targets()
                 : List.of("general");
 
+        // 프로필은 한 번만 읽고 직무마다 재사용
+        getUser(userId);
+        UserProfileEntity profile = userProfileRepository.findById(userId).orElse(null);
+        Supplier<ProfileSnapshot> snapshot = lazySnapshot(profile);
         return targets.stream()
-                .map(target -> calculateRoleFit(userId, new RoleFitRequest(target, request.topNImprovements())))
+                .map(target -> scoreTarget(userId, profile, snapshot, roleAliasIndex.resolve(target)))
+                .toList();
+    }
+
+    /**
+     * 등록된 모든 직무에 대한 적합도 상위 N개 (점수 내림차순)
+     * 프로필과 직무 요구사항을 불변 스냅샷으로 만든 뒤 캐시에 없는 직무만 병렬로 계산한다.
+     */
+    public List<RoleFitResponse> rankRoles(Long userId, int topN) {
+        if (topN < 1 || topN > MAX_RANKED_ROLES) {
+            throw new IllegalArgumentException("topN must be between 1 and " + MAX_RANKED_ROLES);
+        }
+        getUser(userId);
+        UserProfileEntity profile = userProfileRepository.findById(userId).orElse(null);
+
+        // 지연 로딩은 요청 스레드에서 끝내고, 병렬 구간에는 불변 객체만 넘김
+        List<RoleFitResponse> results = new ArrayList<>();
+        Map<RoleFitResultCache.Key, RoleRequirements> missing = new LinkedHashMap<>();
+        for (TargetRoleEntity role : targetRoleRepository.findAll()) {
+            RoleFitResultCache.Key key = resultKey(userId, profile, role.getRoleId(), role);
+            RoleFitResponse cached = roleFitResultCache.getIfPresent(key);
+            if (cached != null) {
+                results.add(cached);
+            } else {
+                missing.put(key, roleSkillIndex.get(role));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            ProfileSnapshot snapshot = profile != null ? snapshot(profile) : null;
+            Stream<Map.Entry<RoleFitResultCache.Key, RoleRequirements>> stream =
+                    missing.size() >= PARALLEL_RANKING_THRESHOLD
+                            ? missing.entrySet().parallelStream()
+                            : missing.entrySet().stream();
+            results.addAll(stream
+                    .map(entry -> roleFitResultCache.put(entry.getKey(),
+                            score(snapshot, entry.getValue().roleId(), entry.getValue())))
+                    .toList());
+        }
+
+        return results.stream()
+                .sorted(Comparator.comparingDouble(RoleFitResponse::roleFitScore).reversed()
+                        .thenComparing(RoleFitResponse::target))
+                .limit(topN)
                 .toList();
     }
 
@@ -133,7 +171,7 @@ public class RoleFitService {
             double delta = roundScore(Math.max(1.0, 3.0 + (size - i) * step / 2));
             items.add(new ImprovementItem(
                     activity.getType() != null ? activity.getType().name() : "STUDY",
-                    ActivityMapper.toResponse(activity),
+                    ActivityMapper.toSummary(activity),
                     delta,
                     List.of(affects),
                     buildImprovementReason(activity, affects)
@@ -147,178 +185,174 @@ public class RoleFitService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
     }
 
-    private double calculateSkillFit(UserProfileEntity profile, TargetRoleEntity targetRole) {
-        if (profile == null || profile.getTechStack() == null || profile.getTechStack().isEmpty()) {
-            return 0.0;
-        }
+    // 캐시 미스가 날 때만 프로필 컬렉션을 읽어 스냅샷 생성
+    private Supplier<ProfileSnapshot> lazySnapshot(UserProfileEntity profile) {
+        return profile != null ? SingletonSupplier.of(() -> snapshot(profile)) : () -> null;
+    }
 
-        if (targetRole == null || targetRole.getRequiredSkills() == null || targetRole.getRequiredSkills().isEmpty()) {
-            return 0.0;
-        }
+    private RoleFitResponse scoreTarget(Long userId, UserProfileEntity profile,
+                                        Supplier<ProfileSnapshot> snapshot, String targetRoleId) {
+        TargetRoleEntity role = targetRoleRepository.findById(targetRoleId).orElse(null);
+        // 프로필/직무 버전이 같으면 이전 계산 결과 재사용 (추천 요청 안의 반복 계산 포함)
+        return roleFitResultCache.get(resultKey(userId, profile, targetRoleId, role), () -> score(
+                snapshot.get(),
+                targetRoleId,
+                // 요구사항은 직무 버전별로 컴파일된 인덱스 사용 (버전이 같으면 스킬 목록을 다시 읽지 않음)
+                role != null ? roleSkillIndex.get(role) : null));
+    }
 
-        List<UserProfileSkill> userSkills = profile.getTechStack();
-        List<WeightedSkill> requiredSkills = targetRole.getRequiredSkills();
-        List<WeightedSkill> allTargetSkills = new ArrayList<>(requiredSkills);
-        if (targetRole.getBonusSkills() != null) {
-            allTargetSkills.addAll(targetRole.getBonusSkills());
-        }
+    private static RoleFitResultCache.Key resultKey(Long userId, UserProfileEntity profile,
+                                                   String targetRoleId, TargetRoleEntity role) {
+        return RoleFitResultCache.key(
+                userId,
+                profile != null ? profile.getProfileVersion() : null,
+                targetRoleId,
+                role != null ? role.getRoleVersion() : null);
+    }
 
-        // 사용자 스킬을 맵으로 변환 (스킬 레벨을 숫자로 변환)
-        Map<String, Double> userSkillMap = userSkills.stream()
-                .collect(Collectors.toMap(
-                        skill -> skill.getName() != null ? skill.getName().toLowerCase(Locale.ROOT) : "",
-                        skill -> skillLevelToNumber(skill.getLevel()),
-                        (a, b) -> Math.max(a, b),
-                        java.util.LinkedHashMap::new
-                ));
+    private RoleFitResponse score(ProfileSnapshot profile, String targetRoleId, RoleRequirements role) {
+        double skillFit = calculateSkillFit(profile, role);
+        double experienceFit = calculateExperienceFit(profile, role);
+        double educationFit = calculateEducationFit(profile, role);
+        double evidenceFit = calculateEvidenceFit(profile, role);
 
-        // Coverage 계산: coverage = Σ(min(userLevel, reqWeight)) / Σ(reqWeight)
-        double coverageSum = 0.0;
-        double reqWeightSum = 0.0;
+        // RoleFitScore = 0.50 * SkillFit + 0.30 * ExperienceFit + 0.15 * EducationFit + 0.05 * EvidenceFit
+        double roleFitScore = roundScore((0.50 * skillFit + 0.30 * experienceFit + 0.15 * educationFit + 0.05 * evidenceFit) * 100);
 
-        for (WeightedSkill required : requiredSkills) {
-            if (required.getWeight() == null || required.getWeight() <= 0) {
-                continue;
-            }
-            double reqWeight = required.getWeight();
-            reqWeightSum += reqWeight;
-            
-            String skillName = required.getName() != null ? required.getName().toLowerCase(Locale.ROOT) : "";
-            Double userLevel = userSkillMap.get(skillName);
-            
-            if (userLevel != null) {
-                coverageSum += Math.min(userLevel, reqWeight);
-            }
-        }
+        List<RoleFitResponse.MissingSkill> missingSkills = buildMissingSkills(profile, role);
+        List<String> recommendations = buildRecommendations(role);
 
-        double coverage = reqWeightSum > 0 ? coverageSum / reqWeightSum : 0.0;
+        return new RoleFitResponse(
+                targetRoleId,
+                roleFitScore,
+                new RoleFitResponse.Breakdown(skillFit, experienceFit, educationFit, evidenceFit),
+                missingSkills,
+                recommendations
+        );
+    }
 
-        // Cosine similarity 계산: cosine_similarity(userSkillVector, targetSkillVector)
-        double cosine = calculateCosineSimilarity(userSkillMap, allTargetSkills);
+    /**
+     * 점수 계산에 필요한 프로필 값만 정규화해 담은 불변 스냅샷 (직무 수와 무관하게 한 번만 생성)
+     */
+    private record ProfileSnapshot(
+            UserSkillVector skills,
+            List<String> ownedSkills,
+            List<ExperienceSnapshot> experiences,
+            String major,
+            Integer grade,
+            List<String> certifications,
+            boolean hasPortfolio
+    ) {
+    }
 
-        // SkillFit = 0.7 * coverage + 0.3 * cosine
-        return clamp(0.7 * coverage + 0.3 * cosine);
+    /**
+     * @param techStack 소문자 기술 스택 (null은 빈 문자열, 원래 개수 유지)
+     * @param months clamp(duration_months / 24, 0, 1)
+     */
+    private record ExperienceSnapshot(List<String> techStack, double months, double typeWeight) {
     }
 
-    private double skillLevelToNumber(SkillLevel level) {
-        if (level == null) {
-            return 0.0;
+    private ProfileSnapshot snapshot(UserProfileEntity profile) {
+        List<String> ownedSkills = profile.getTechStack() != null
+                ? profile.getTechStack().stream()
+                .map(skill -> skill.getName() != null ? skill.getName().toLowerCase(Locale.ROOT) : "")
+                .toList()
+                : List.of();
+
+        List<ExperienceSnapshot> experiences = new ArrayList<>();
+        if (profile.getExperiences() != null) {
+            for (UserProfileExperienceEntity exp : profile.getExperiences()) {
+                if (exp == null) {
+                    continue;
+                }
+                List<String> techStack = exp.getTechStack() != null
+                        ? exp.getTechStack().stream()
+                        .map(tech -> tech != null ? tech.toLowerCase(Locale.ROOT) : "")
+                        .toList()
+                        : List.of();
+
+                double months = 0.0;
+                if (exp.getStartDate() != null) {
+                    LocalDate endDate = exp.getEndDate() != null ? exp.getEndDate() : LocalDate.now();
+                    long durationMonths = ChronoUnit.MONTHS.between(exp.getStartDate(), endDate);
+                    months = clamp(durationMonths / 24.0);
+                }
+
+                experiences.add(new ExperienceSnapshot(techStack, months, getExperienceTypeWeight(exp.getType())));
+            }
         }
-        return switch (level) {
-            case BEGINNER -> 0.5;
-            case INTERMEDIATE -> 0.75;
-            case ADVANCED -> 1.0;
-            case EXPERT -> 1.2;
-        };
+
+        List<String> certifications = profile.getCertifications() != null
+                ? profile.getCertifications().stream()
+                .map(c -> c != null && StringUtils.hasText(c.getName()) ? c.getName().toLowerCase(Locale.ROOT) : "")
+                .filter(StringUtils::hasText)
+                .toList()
+                : List.of();
+
+        String major = StringUtils.hasText(profile.getUniversityMajor())
+                ? profile.getUniversityMajor().toLowerCase(Locale.ROOT)
+                : null;
+
+        return new ProfileSnapshot(
+                roleSkillIndex.userVector(profile.getTechStack()),
+                ownedSkills,
+                List.copyOf(experiences),
+                major,
+                profile.getUniversityGrade(),
+                certifications,
+                hasUrlsInRelatedExperiences(profile.getExperiences())
+        );
     }
 
-    private double calculateCosineSimilarity(Map<String, Double> userSkills, List<WeightedSkill> targetSkills) {
-        if (userSkills.isEmpty() || targetSkills.isEmpty()) {
+    private double calculateSkillFit(ProfileSnapshot profile, RoleRequirements role) {
+        if (profile == null || profile.skills().isEmpty()) {
             return 0.0;
         }
 
-        // 모든 고유 스킬 이름 수집
-        java.util.Set<String> allSkillNames = new java.util.HashSet<>();
-        allSkillNames.addAll(userSkills.keySet());
-        for (WeightedSkill skill : targetSkills) {
-            if (skill.getName() != null) {
-                allSkillNames.add(skill.getName().toLowerCase(Locale.ROOT));
-            }
+        if (role == null || !role.skills().hasRequiredSkills()) {
+            return 0.0;
         }
 
-        // 벡터 생성
-        List<Double> userVector = new ArrayList<>();
-        List<Double> targetVector = new ArrayList<>();
+        // 사용자 스킬은 스킬 ID 희소 벡터 (스킬 레벨을 숫자로 변환, 같은 스킬은 높은 레벨)
+        UserSkillVector userSkills = profile.skills();
 
-        for (String skillName : allSkillNames) {
-            userVector.add(userSkills.getOrDefault(skillName, 0.0));
-            
-            double targetValue = 0.0;
-            for (WeightedSkill skill : targetSkills) {
-                if (skill.getName() != null && skill.getName().toLowerCase(Locale.ROOT).equals(skillName)) {
-                    targetValue += skill.getWeight() != null ? skill.getWeight() : 0.0;
-                }
-            }
-            targetVector.add(targetValue);
-        }
+        // Coverage 계산: coverage = Σ(min(userLevel, reqWeight)) / Σ(reqWeight)
+        double coverage = role.skills().coverage(userSkills);
 
-        // Cosine similarity 계산
-        double dotProduct = 0.0;
-        double userNorm = 0.0;
-        double targetNorm = 0.0;
-
-        for (int i = 0; i < userVector.size(); i++) {
-            double u = userVector.get(i);
-            double t = targetVector.get(i);
-            dotProduct += u * t;
-            userNorm += u * u;
-            targetNorm += t * t;
-        }
+        // Cosine similarity 계산: cosine_similarity(userSkillVector, targetSkillVector)
+        double cosine = role.skills().cosine(userSkills);
 
-        double denominator = Math.sqrt(userNorm) * Math.sqrt(targetNorm);
-        return denominator > 0 ? dotProduct / denominator : 0.0;
+        // SkillFit = 0.7 * coverage + 0.3 * cosine
+        return clamp(0.7 * coverage + 0.3 * cosine);
     }
 
-    private double calculateExperienceFit(UserProfileEntity profile, TargetRoleEntity targetRole) {
-        if (profile == null || profile.getExperiences() == null || profile.getExperiences().isEmpty()) {
+    private double calculateExperienceFit(ProfileSnapshot profile, RoleRequirements role) {
+        if (profile == null || profile.experiences().isEmpty()) {
             return 0.0;
         }
 
-        // 타겟 역할의 스킬 유니버스 생성
-        java.util.Set<String> targetSkillUniverse = new java.util.HashSet<>();
-        if (targetRole != null) {
-            if (targetRole.getRequiredSkills() != null) {
-                for (WeightedSkill skill : targetRole.getRequiredSkills()) {
-                    if (skill.getName() != null) {
-                        targetSkillUniverse.add(skill.getName().toLowerCase(Locale.ROOT));
-                    }
-                }
-            }
-            if (targetRole.getBonusSkills() != null) {
-                for (WeightedSkill skill : targetRole.getBonusSkills()) {
-                    if (skill.getName() != null) {
-                        targetSkillUniverse.add(skill.getName().toLowerCase(Locale.ROOT));
-                    }
-                }
-            }
-        }
+        // 타겟 역할의 스킬 유니버스
+        List<String> targetSkillUniverse = role != null ? role.skills().skillUniverse() : List.of();
 
-        List<UserProfileExperienceEntity> experiences = profile.getExperiences();
         double totalExperienceFit = 0.0;
 
         // ExperienceFit = Σ(rel * months * typeWeight)
-        for (UserProfileExperienceEntity exp : experiences) {
-            if (exp == null) {
-                continue;
-            }
-
+        for (ExperienceSnapshot exp : profile.experiences()) {
             // rel = overlap_ratio(exp.techStack, targetRole.skillUniverse)
-            double rel = calculateOverlapRatio(exp.getTechStack(), targetSkillUniverse);
-
-            // months = clamp(duration_months / 24, 0, 1)
-            double months = 0.0;
-            if (exp.getStartDate() != null) {
-                LocalDate endDate = exp.getEndDate() != null ? exp.getEndDate() : LocalDate.now();
-                long durationMonths = ChronoUnit.MONTHS.between(exp.getStartDate(), endDate);
-                months = clamp(durationMonths / 24.0);
-            }
+            double rel = calculateOverlapRatio(exp.techStack(), targetSkillUniverse);
 
-            // typeWeight = {PROJECT: 1.0, INTERNSHIP: 1.0, RESEARCH: 0.8, PARTTIME: 0.6}
-            double typeWeight = getExperienceTypeWeight(exp.getType());
-
-            totalExperienceFit += rel * months * typeWeight;
+            totalExperienceFit += rel * exp.months() * exp.typeWeight();
         }
 
         return clamp(totalExperienceFit);
     }
 
-    private double calculateOverlapRatio(List<String> expTechStack, java.util.Set<String> targetSkillUniverse) {
-        if (expTechStack == null || expTechStack.isEmpty() || targetSkillUniverse.isEmpty()) {
+    private double calculateOverlapRatio(List<String> expTechStack, List<String> targetSkillUniverse) {
+        if (expTechStack.isEmpty() || targetSkillUniverse.isEmpty()) {
             return 0.0;
         }
 
         long overlapCount = expTechStack.stream()
-                .map(tech -> tech != null ? tech.toLowerCase(Locale.ROOT) : "")
                 .filter(tech -> targetSkillUniverse.stream()
                         .anyMatch(target -> tech.contains(target) || target.contains(tech)))
                 .count();
@@ -326,6 +360,7 @@ public class RoleFitService {
         return (double) overlapCount / expTechStack.size();
     }
 
+    // typeWeight = {PROJECT: 1.0, INTERNSHIP: 1.0, RESEARCH: 0.8, PARTTIME: 0.6}
     private double getExperienceTypeWeight(com.mentoai.mentoai.entity.ExperienceType type) {
         if (type == null) {
             return 0.5;
@@ -339,30 +374,25 @@ public class RoleFitService {
         };
     }
 
-    private double calculateEducationFit(UserProfileEntity profile, TargetRoleEntity targetRole) {
+    private double calculateEducationFit(ProfileSnapshot profile, RoleRequirements role) {
         if (profile == null) {
             return 0.0;
         }
 
         // majorMatch = targetRole.majorMapping.get(user.major, 0.5)
         double majorMatch = 0.5; // 기본값
-        if (targetRole != null && targetRole.getMajorMapping() != null && !targetRole.getMajorMapping().isEmpty()) {
-            String userMajor = profile.getUniversityMajor();
-            if (StringUtils.hasText(userMajor)) {
-                String userMajorLower = userMajor.toLowerCase(Locale.ROOT);
-                for (WeightedMajor majorMapping : targetRole.getMajorMapping()) {
-                    if (majorMapping.getMajor() != null && 
-                        userMajorLower.contains(majorMapping.getMajor().toLowerCase(Locale.ROOT))) {
-                        majorMatch = majorMapping.getWeight() != null ? majorMapping.getWeight() : 0.5;
-                        break; // 첫 번째 매칭만 사용
-                    }
+        if (role != null && profile.major() != null) {
+            for (RoleRequirements.MajorWeight majorMapping : role.majorMapping()) {
+                if (majorMapping.major() != null && profile.major().contains(majorMapping.major())) {
+                    majorMatch = majorMapping.weight() != null ? majorMapping.weight() : 0.5;
+                    break; // 첫 번째 매칭만 사용
                 }
             }
         }
 
         // seniorityMatch = expectedSeniorityScore(user.grade, targetRole.expectedSeniority)
-        double seniorityMatch = calculateSeniorityMatch(profile.getUniversityGrade(), 
-                targetRole != null ? targetRole.getExpectedSeniority() : null);
+        double seniorityMatch = calculateSeniorityMatch(profile.grade(),
+                role != null ? role.expectedSeniority() : null);
 
         // EducationFit = 0.7 * majorMatch + 0.3 * seniorityMatch
         return clamp(0.7 * majorMatch + 0.3 * seniorityMatch);
@@ -397,25 +427,16 @@ public class RoleFitService {
         return clamp(userGrade / 4.0);
     }
 
-    private double calculateEvidenceFit(UserProfileEntity profile, TargetRoleEntity targetRole) {
+    private double calculateEvidenceFit(ProfileSnapshot profile, RoleRequirements role) {
         if (profile == null) {
             return 0.0;
         }
 
         // cert = overlap_ratio(user.certifications, targetRole.recommendedCerts)
         double cert = 0.0;
-        if (targetRole != null && targetRole.getRecommendedCerts() != null && !targetRole.getRecommendedCerts().isEmpty()) {
-            List<String> userCerts = profile.getCertifications() != null
-                    ? profile.getCertifications().stream()
-                            .map(c -> c != null && StringUtils.hasText(c.getName()) ? c.getName().toLowerCase(Locale.ROOT) : "")
-                            .filter(StringUtils::hasText)
-                            .toList()
-                    : List.of();
-            
-            List<String> recommendedCerts = targetRole.getRecommendedCerts().stream()
-                    .map(c -> c != null ? c.toLowerCase(Locale.ROOT) : "")
-                    .filter(StringUtils::hasText)
-                    .toList();
+        if (role != null) {
+            List<String> userCerts = profile.certifications();
+            List<String> recommendedCerts = role.normalizedCerts();
 
             if (!userCerts.isEmpty() && !recommendedCerts.isEmpty()) {
                 long matchedCount = userCerts.stream()
@@ -427,7 +448,7 @@ public class RoleFitService {
         }
 
         // portfolio = hasUrlsInRelatedExperiences(user.experiences) ? 1 : 0
-        double portfolio = hasUrlsInRelatedExperiences(profile.getExperiences()) ? 1.0 : 0.0;
+        double portfolio = profile.hasPortfolio() ? 1.0 : 0.0;
 
         // EvidenceFit = 0.7 * cert + 0.3 * portfolio
         return clamp(0.7 * cert + 0.3 * portfolio);
@@ -443,31 +464,23 @@ public class RoleFitService {
     }
 
 
-    private List<RoleFitResponse.MissingSkill> buildMissingSkills(UserProfileEntity profile, TargetRoleEntity targetRole) {
+    private List<RoleFitResponse.MissingSkill> buildMissingSkills(ProfileSnapshot profile, RoleRequirements role) {
         List<RoleFitResponse.MissingSkill> missing = new ArrayList<>();
 
-        if (targetRole == null || targetRole.getRequiredSkills() == null || targetRole.getRequiredSkills().isEmpty()) {
+        if (role == null || !role.skills().hasRequiredSkills()) {
             return missing;
         }
 
-        List<String> ownedSkills = profile != null && profile.getTechStack() != null
-                ? profile.getTechStack().stream()
-                .map(skill -> skill.getName() != null ? skill.getName().toLowerCase(Locale.ROOT) : "")
-                .toList()
-                : Collections.emptyList();
+        List<String> ownedSkills = profile != null ? profile.ownedSkills() : Collections.emptyList();
 
         // 필수 스킬 중 사용자가 가지지 않은 것들을 찾기
-        for (WeightedSkill required : targetRole.getRequiredSkills()) {
-            if (required.getName() == null) {
-                continue;
-            }
-            
-            String skillName = required.getName().toLowerCase(Locale.ROOT);
+        for (CompiledRoleSkills.RequiredSkill required : role.skills().requiredSkills()) {
+            String skillName = required.normalizedName();
             boolean hasSkill = ownedSkills.stream().anyMatch(s -> s.contains(skillName) || skillName.contains(s));
             
             if (!hasSkill) {
-                double impact = required.getWeight() != null ? required.getWeight() * 0.1 : 0.05;
-                missing.add(new RoleFitResponse.MissingSkill(required.getName(), clamp(impact)));
+                double impact = required.weight() != null ? required.weight() * 0.1 : 0.05;
+                missing.add(new RoleFitResponse.MissingSkill(required.name(), clamp(impact)));
             }
         }
 
@@ -477,8 +490,8 @@ public class RoleFitService {
         return missing;
     }
 
-    private List<String> buildRecommendations(TargetRoleEntity targetRole) {
-        if (targetRole == null) {
+    private List<String> buildRecommendations(RoleRequirements role) {
+        if (role == null) {
             return List.of(
                     "Contribute to open-source projects.",
                     "Run a study group in your field.",
@@ -487,21 +500,21 @@ public class RoleFitService {
         }
 
         List<String> recommendations = new ArrayList<>();
-        String roleName = targetRole.getName() != null ? targetRole.getName() : "";
-        String roleId = targetRole.getRoleId() != null ? targetRole.getRoleId().toLowerCase(Locale.ROOT) : "";
+        String roleName = role.name() != null ? role.name() : "";
+        String roleId = role.roleId() != null ? role.roleId().toLowerCase(Locale.ROOT) : "";
 
         // 역할별 맞춤 추천
         if (roleId.contains("backend") || roleName.toLowerCase(Locale.ROOT).contains("backend")) {
             recommendations.add("Build a side project with Spring Boot to gain system design experience.");
             recommendations.add("Prepare for AWS Certified Cloud Practitioner to validate cloud fundamentals.");
-            if (targetRole.getRecommendedCerts() != null && !targetRole.getRecommendedCerts().isEmpty()) {
-                recommendations.add("Consider obtaining: " + String.join(", ", targetRole.getRecommendedCerts()));
+            if (!role.recommendedCerts().isEmpty()) {
+                recommendations.add("Consider obtaining: " + String.join(", ", role.recommendedCerts()));
             }
         } else if (roleId.contains("data") || roleName.toLowerCase(Locale.ROOT).contains("data")) {
             recommendations.add("Join a public data analysis competition to gain hands-on experience.");
             recommendations.add("Prepare for TensorFlow certification and learn ML pipelines.");
-            if (targetRole.getRecommendedCerts() != null && !targetRole.getRecommendedCerts().isEmpty()) {
-                recommendations.add("Consider obtaining: " + String.join(", ", targetRole.getRecommendedCerts()));
+            if (!role.recommendedCerts().isEmpty()) {
+                recommendations.add("Consider obtaining: " + String.join(", ", role.recommendedCerts()));
             }
         } else {
             recommendations.add("Get feedback via mentoring with experts in the field.");
@@ -537,97 +550,4 @@ public class RoleFitService {
     private static double roundScore(double value) {
         return Math.round(value * 10.0) / 10.0;
     }
-
-    private String resolveTarget(String target) {
-        if (!StringUtils.hasText(target)) {
-            return "general";
-        }
-        
-        String normalized = target.trim().toLowerCase(Locale.ROOT);
-        
-        // 1. 정확한 roleId 매칭 시도
-        Optional<TargetRoleEntity> exactMatch = targetRoleRepository.findById(normalized);
-        if (exactMatch.isPresent()) {
-            return exactMatch.get().getRoleId();
-        }
-        
-        // 2. 이름으로 정확히 매칭 시도
-        Optional<TargetRoleEntity> nameMatch = targetRoleRepository.findByNameIgnoreCase(target.trim());
-        if (nameMatch.isPresent()) {
-            return nameMatch.get().getRoleId();
-        }
-        
-        // 3. 키워드로 부분 매칭 시도
-        List<TargetRoleEntity> keywordMatches = targetRoleRepository.findByKeyword(normalized);
-        if (!keywordMatches.isEmpty()) {
-            // 가장 관련성 높은 매칭 선택 (이름에 키워드가 포함된 것 우선)
-            TargetRoleEntity bestMatch = keywordMatches.stream()
-                    .filter(role -> role.getName() != null && 
-                            role.getName().toLowerCase(Locale.ROOT).contains(normalized))
-                    .findFirst()
-                    .orElse(keywordMatches.get(0));
-            return bestMatch.getRoleId();
-        }
-        
-        // 4. 키워드 추출 및 매칭 (예: "백엔드 엔지니어" → "backend")
-        String extractedKeyword = extractRoleKeyword(normalized);
-        if (!extractedKeyword.equals(normalized)) {
-            List<TargetRoleEntity> extractedMatches = targetRoleRepository.findByKeyword(extractedKeyword);
-            if (!extractedMatches.isEmpty()) {
-                return extractedMatches.get(0).getRoleId();
-            }
-        }
-        
-        // 5. 매칭 실패 시 원본 반환 (또는 "general")
-        return normalized;
-    }
-    
-    private String extractRoleKeyword(String input) {
-        // 직무 키워드 매핑
-        Map<String, String> roleKeywords = Map.ofEntries(
-                Map.entry("백엔드", "backend"),
-                Map.entry("backend", "backend"),
-                Map.entry("프론트엔드", "frontend"),
-                Map.entry("frontend", "frontend"),
-                Map.entry("풀스택", "fullstack"),
-                Map.entry("fullstack", "fullstack"),
-                Map.entry("데이터", "data"),
-                Map.entry("data", "data"),
-                Map.entry("ai", "ai"),
-                Map.entry("머신러닝", "ai"),
-                Map.entry("ml", "ai"),
-                Map.entry("devops", "devops"),
-                Map.entry("시스템", "system"),
-                Map.entry("system", "system"),
-                Map.entry("보안", "security"),
-                Map.entry("security", "security"),
-                Map.entry("모바일", "mobile"),
-                Map.entry("mobile", "mobile"),
-                Map.entry("ios", "ios"),
-                Map.entry("android", "android")
-        );
-        
-        String lowerInput = input.toLowerCase(Locale.ROOT);
-        
-        // 키워드 매핑에서 찾기
-        for (Map.Entry<String, String> entry : roleKeywords.entrySet()) {
-            if (lowerInput.contains(entry.getKey())) {
-                return entry.getValue();
-            }
-        }
-        
-        // 키워드 추출 (예: "백엔드 엔지니어" → "backend")
-        // 공백으로 분리하여 첫 번째 단어 사용
-        String[] parts = lowerInput.split("\\s+");
-        if (parts.length > 0) {
-            String firstPart = parts[0];
-            if (roleKeywords.containsKey(firstPart)) {
-                return roleKeywords.get(firstPart);
-            }
-        }
-        
-        return input;
-    }
 }
-
-
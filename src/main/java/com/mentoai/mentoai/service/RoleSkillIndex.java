@@ -0,0 +1,47 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.entity.UserProfileSkill;
+import com.mentoai.mentoai.service.rolefit.RoleRequirements;
+import com.mentoai.mentoai.service.rolefit.SkillDictionary;
+import com.mentoai.mentoai.service.rolefit.UserSkillVector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목표 직무별 컴파일된 요구사항 인덱스 (직무 ID + role_version 기준 캐시)
+ * 직무가 바뀌어 버전이 달라졌을 때만 스킬/전공/자격증 목록을 읽어 다시 컴파일한다.
+ */
+@Component
+public class RoleSkillIndex {
+
+    private final SkillDictionary dictionary = new SkillDictionary();
+    private final ConcurrentHashMap<String, RoleRequirements> compiledRoles = new ConcurrentHashMap<>();
+
+    public RoleRequirements get(TargetRoleEntity role) {
+        Long version = role.getRoleVersion();
+        if (version == null) {
+            // 저장 전 엔티티는 캐시하지 않음
+            return RoleRequirements.compile(role, -1L, dictionary);
+        }
+
+        RoleRequirements cached = compiledRoles.get(role.getRoleId());
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        RoleRequirements compiled = RoleRequirements.compile(role, version, dictionary);
+        compiledRoles.merge(role.getRoleId(), compiled,
+                (current, candidate) -> current.version() >= candidate.version() ? current : candidate);
+        return compiled;
+    }
+
+    public UserSkillVector userVector(List<UserProfileSkill> skills) {
+        return UserSkillVector.of(skills, dictionary);
+    }
+
+    public void evict(String roleId) {
+        compiledRoles.remove(roleId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mentoai.mentoai.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 중 독립적인 원격/DB 호출을 동시에 실행하는 제한된 스레드 풀
+ * 각 단계는 요청의 마감 시각까지만 기다리고, 늦거나 실패하면 대체값을 사용한다.
+ */
+@Slf4j
+@Component
+public class StageExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public StageExecutor(
+            @Value("${executor.stage.pool-size:16}") int poolSize,
+            @Value("${executor.stage.queue-capacity:128}") int queueCapacity
+    ) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // 대기열이 가득 차면 해당 단계는 실패로 처리 (요청 스레드를 막지 않음)
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stage-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 단계 실행 요청, 대기열이 가득 차면 실패한 결과 반환
+     * supplyAsync와 달리 cancel(true)가 실행 중인 스레드를 인터럽트하도록 FutureTask로 제출한다.
+     */
+    public <T> Future<T> submit(String stage, Supplier<T> task) {
+        try {
+            return executor.submit(task::get);
+        } catch (Exception e) {
+            log.warn("Stage {} rejected: {}", stage, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 마감 시각(System.nanoTime 기준)까지 결과 대기, 시간 초과나 실패 시 fallback 반환
+     */
+    public <T> T await(String stage, Future<T> future, long deadlineNanos, T fallback) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 늦은 단계는 인터럽트하여 원격 호출/DB 조회가 스레드를 계속 점유하지 않게 함
+            future.cancel(true);
+            log.debug("Stage {} exceeded its deadline", stage);
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (Exception e) {
+            log.warn("Stage {} failed: {}", stage, e.getMessage());
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.SearchSynonymEntity;
+import com.mentoai.mentoai.repository.SearchSynonymRepository;
+import com.mentoai.mentoai.service.text.AhoCorasick;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색어 동의어 사전 (search_synonyms 테이블을 Aho-Corasick 오토마톤으로 컴파일)
+ * 대표어가 포함되면 동의어를, 동의어가 포함되면 대표어와 나머지 동의어를 검색어에 추가한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SynonymDictionary {
+
+    private final SearchSynonymRepository searchSynonymRepository;
+
+    private volatile AhoCorasick<Set<String>> automaton = AhoCorasick.compile(Map.of());
+
+    /**
+     * 테이블을 다시 읽어 오토마톤 교체 (기동 시 및 주기적으로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.synonyms.reload-interval-ms:300000}",
+            initialDelayString = "${search.synonyms.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            List<SearchSynonymEntity> synonyms = searchSynonymRepository.findAll();
+            automaton = compile(synonyms);
+            log.debug("Search synonym dictionary loaded: {} pairs", synonyms.size());
+        } catch (Exception e) {
+            log.warn("Failed to load search synonym dictionary: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 원본 검색어와 확장어 목록 (원본이 항상 첫 번째, 중복 제거)
+     */
+    public List<String> expand(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(query);
+        for (AhoCorasick.Match<Set<String>> match : automaton.findAll(query.toLowerCase(Locale.ROOT))) {
+            terms.addAll(match.value());
+        }
+        return new ArrayList<>(terms);
+    }
+
+    static AhoCorasick<Set<String>> compile(List<SearchSynonymEntity> synonyms) {
+        Map<String, Set<String>> groups = new LinkedHashMap<>();
+        for (SearchSynonymEntity synonym : synonyms) {
+            groups.computeIfAbsent(synonym.getTerm(), term -> new LinkedHashSet<>()).add(synonym.getSynonym());
+        }
+
+        // 패턴(소문자) → 추가할 검색어
+        Map<String, Set<String>> patterns = new LinkedHashMap<>();
+        groups.forEach((term, members) -> {
+            patterns.computeIfAbsent(term.toLowerCase(Locale.ROOT), key -> new LinkedHashSet<>()).addAll(members);
+            for (String member : members) {
+                Set<String> expansions = patterns.computeIfAbsent(member.toLowerCase(Locale.ROOT), key -> new LinkedHashSet<>());
+                expansions.add(term);
+                expansions.addAll(members);
+            }
+        });
+        return AhoCorasick.compile(patterns);
+    }
+}
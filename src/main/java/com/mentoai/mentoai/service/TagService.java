@@ -17,6 +17,7 @@ import java.util.Optional;
 public class TagService {
     
     private final TagRepository tagRepository;
+    private final ReferenceDataCache referenceDataCache;
     
     public List<TagEntity> getTags(String query, TagType type) {
         return tagRepository.findByFilters(query, type, Pageable.unpaged()).getContent();
@@ -27,7 +28,9 @@ public class TagService {
         if (tagRepository.existsByNameAndType(tag.getName(), tag.getType())) {
             throw new IllegalArgumentException("이미 존재하는 태그입니다: " + tag.getName() + " (" + tag.getType() + ")");
         }
-        return tagRepository.save(tag);
+        TagEntity saved = tagRepository.save(tag);
+        referenceDataCache.invalidateTags();
+        return saved;
     }
     
     public Optional<TagEntity> getTagByName(String name) {
@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.service;
+
+/**
+ * 목표 직무 생성/수정/삭제 후 발행되는 이벤트 (직무 별칭 인덱스 재생성용)
+ */
+public record TargetRoleChangedEvent(String roleId) {
+}
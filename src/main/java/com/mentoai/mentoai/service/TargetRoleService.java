@@ -7,6 +7,7 @@ import com.mentoai.mentoai.entity.WeightedMajor;
 import com.mentoai.mentoai.entity.WeightedSkill;
 import com.mentoai.mentoai.repository.TargetRoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,17 +23,22 @@ import java.util.stream.Collectors;
 public class TargetRoleService {
 
     private final TargetRoleRepository targetRoleRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final RoleSkillIndex roleSkillIndex;
+    private final RoleFitResultCache roleFitResultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TargetRoleResponse> listRoles() {
-        return targetRoleRepository.findAll().stream()
+        return referenceDataCache.targetRoles(() -> targetRoleRepository.findAll().stream()
                 .sorted(Comparator.comparing(TargetRoleEntity::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
                 .map(this::toResponse)
-                .toList();
+                .toList());
     }
 
     public TargetRoleResponse getRole(String roleId) {
-        return targetRoleRepository.findById(roleId)
-                .map(this::toResponse)
+        return listRoles().stream()
+                .filter(role -> role.roleId().equals(roleId))
+                .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Target role not found: " + roleId));
     }
 
@@ -60,12 +66,19 @@ public class TargetRoleService {
         }
 
         TargetRoleEntity saved = targetRoleRepository.save(entity);
+        targetRoleRepository.incrementVersion(saved.getRoleId());
+        referenceDataCache.invalidateTargetRoles();
+        eventPublisher.publishEvent(new TargetRoleChangedEvent(saved.getRoleId()));
         return toResponse(saved);
     }
 
     @Transactional
     public void deleteRole(String roleId) {
         targetRoleRepository.deleteById(roleId);
+        referenceDataCache.invalidateTargetRoles();
+        roleSkillIndex.evict(roleId);
+        roleFitResultCache.evictRole(roleId);
+        eventPublisher.publishEvent(new TargetRoleChangedEvent(roleId));
     }
 
     private List<WeightedSkill> fromSkillMap(Map<String, Double> map) {
@@ -94,7 +107,8 @@ public class TargetRoleService {
                 toMap(entity.getBonusSkills(), WeightedSkill::getName, WeightedSkill::getWeight),
                 toMap(entity.getMajorMapping(), WeightedMajor::getMajor, WeightedMajor::getWeight),
                 entity.getExpectedSeniority(),
-                entity.getRecommendedCerts(),
+                // 캐시에 보관되므로 지연 로딩 컬렉션 대신 복사본 사용
+                entity.getRecommendedCerts() != null ? List.copyOf(entity.getRecommendedCerts()) : List.of(),
                 entity.getUpdatedAt()
         );
     }
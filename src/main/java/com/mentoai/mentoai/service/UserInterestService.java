@@ -7,6 +7,7 @@ import com.mentoai.mentoai.repository.TagRepository;
 import com.mentoai.mentoai.repository.UserInterestRepository;
 import com.mentoai.mentoai.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +23,7 @@ public class UserInterestService {
     private final UserInterestRepository userInterestRepository;
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 사용자 관심사 목록 조회
     public List<UserInterestEntity> getUserInterests(Long userId) {
@@ -71,6 +73,7 @@ public class UserInterestService {
             }
         }
         
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         return getUserInterests(userId);
     }
     
@@ -79,6 +82,7 @@ public class UserInterestService {
     public boolean deleteUserInterest(Long userId, Long tagId) {
         if (userInterestRepository.existsByUserIdAndTagId(userId, tagId)) {
             userInterestRepository.deleteByUserIdAndTagId(userId, tagId);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
             return true;
         }
         return false;
@@ -0,0 +1,7 @@
+package com.mentoai.mentoai.service;
+
+/**
+ * 사용자 프로필 또는 관심사 변경 후 발행되는 이벤트 (프로필 임베딩 갱신용)
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -0,0 +1,75 @@
+package com.mentoai.mentoai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 프로필/관심사/목표 직무 변경 이벤트를 받아 사용자 프로필 임베딩을 비동기로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileEmbeddingIndexer {
+
+    private final UserProfileEmbeddingService userProfileEmbeddingService;
+
+    /**
+     * 커밋 이후 프로필 임베딩 갱신
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        refresh(event.userId());
+    }
+
+    /**
+     * 검색어에 직무 이름이 들어가므로 목표 직무 수정/삭제 후 해당 직무를 지정한 사용자의 임베딩 갱신
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTargetRoleChanged(TargetRoleChangedEvent event) {
+        List<Long> userIds;
+        try {
+            userIds = userProfileEmbeddingService.findUserIdsByTargetRole(event.roleId());
+        } catch (Exception e) {
+            log.warn("Failed to find profiles for target role {}: {}", event.roleId(), e.getMessage());
+            return;
+        }
+        // 내용이 같으면 refresh가 해시 비교로 건너뜀
+        userIds.forEach(this::refresh);
+    }
+
+    /**
+     * 추천 중 발견된 프로필 임베딩 누락을 비동기로 채움
+     */
+    @Async
+    public void refreshAsync(Long userId) {
+        refresh(userId);
+    }
+
+    private void refresh(Long userId) {
+        try {
+            refreshWithRetry(userId);
+        } catch (Exception e) {
+            log.warn("Failed to refresh profile embedding for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    // 같은 사용자의 갱신이 겹쳐 버전 충돌이 나면 최신 상태로 한 번 더 계산
+    private void refreshWithRetry(Long userId) {
+        try {
+            userProfileEmbeddingService.refresh(userId);
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            log.debug("Profile embedding for user {} changed concurrently, retrying", userId);
+            userProfileEmbeddingService.refresh(userId);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.entity.UserInterestEntity;
+import com.mentoai.mentoai.entity.UserProfileEmbeddingEntity;
+import com.mentoai.mentoai.entity.UserProfileEntity;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.repository.UserInterestRepository;
+import com.mentoai.mentoai.repository.UserProfileEmbeddingRepository;
+import com.mentoai.mentoai.repository.UserProfileRepository;
+import com.mentoai.mentoai.service.vector.Embedding;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 프로필 임베딩 저장소
+ * 목표 직무와 관심사 태그로 만든 사용자 검색어를 프로필/관심사 변경 시에만 임베딩하고,
+ * 개인화 추천에서는 저장된 벡터를 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserProfileEmbeddingService {
+
+    private final UserProfileEmbeddingRepository userProfileEmbeddingRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final TargetRoleRepository targetRoleRepository;
+    private final UserInterestRepository userInterestRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final GeminiService geminiService;
+    private final TransactionTemplate transactionTemplate;
+
+    public record ProfileEmbedding(Embedding embedding, String targetRole, long version) {
+    }
+
+    /**
+     * 저장된 프로필 임베딩 조회 (현재 임베딩 모델로 계산된 것만 반환)
+     * @param targetRole 요청한 목표 직무, 비어 있으면 프로필의 목표 직무 기준 벡터를 그대로 사용
+     * @return 요청 직무가 저장된 벡터의 직무와 다르면 빈 값
+     */
+    public Optional<ProfileEmbedding> findEmbedding(Long userId, String targetRole) {
+        String requestedRole = normalize(targetRole);
+        return userProfileEmbeddingRepository.findById(userId)
+                .filter(embedding -> geminiService.getEmbeddingModel().equals(embedding.getModel()))
+                .filter(embedding -> embedding.getVector() != null)
+                .filter(embedding -> requestedRole == null || requestedRole.equalsIgnoreCase(embedding.getTargetRole()))
+                .map(embedding -> new ProfileEmbedding(
+                        Embedding.of(embedding.getVector()), embedding.getTargetRole(), embedding.getVersion()));
+    }
+
+    /**
+     * 프로필의 목표 직무 이름 (저장된 프로필 벡터의 검색어와 같은 기준)
+     */
+    public String findProfileTargetRole(Long userId) {
+        return userProfileRepository.findById(userId)
+                .map(UserProfileEntity::getTargetRoleId)
+                .flatMap(targetRoleRepository::findById)
+                .map(TargetRoleEntity::getName)
+                .orElse(null);
+    }
+
+    /**
+     * 해당 목표 직무를 프로필에 지정한 사용자 ID (직무 이름 변경 시 프로필 벡터 재계산용)
+     */
+    public List<Long> findUserIdsByTargetRole(String roleId) {
+        return userProfileRepository.findUserIdsByTargetRoleId(roleId);
+    }
+
+    /**
+     * 프로필 임베딩 갱신 (입력 텍스트와 모델이 같으면 건너뜀)
+     * 원격 임베딩 요청 동안 DB 연결을 잡지 않도록 읽기, 임베딩, 저장을 나누어 처리한다.
+     * 그 사이 다른 갱신이 먼저 저장하면 버전 충돌로 실패하고 호출 측에서 다시 계산한다.
+     * @return 새로 계산했으면 true
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean refresh(Long userId) {
+        String model = geminiService.getEmbeddingModel();
+        StaleProfile stale = transactionTemplate.execute(status -> findStale(userId, model));
+        if (stale == null) {
+            return false;
+        }
+
+        // 요청 시점 검색어 임베딩과 같은 캐시를 사용 (저장 전후로 같은 벡터)
+        Embedding vector = geminiService.embedQuery(stale.text());
+        UserProfileEmbeddingEntity embedding = stale.existing();
+        if (embedding == null) {
+            embedding = new UserProfileEmbeddingEntity();
+            embedding.setUserId(userId);
+        }
+        embedding.setTargetRole(stale.targetRole());
+        embedding.setContentHash(stale.contentHash());
+        embedding.setModel(model);
+        embedding.setDimension(vector.dimension());
+        embedding.setVector(vector.toArray());
+        UserProfileEmbeddingEntity updated = embedding;
+        transactionTemplate.executeWithoutResult(status -> userProfileEmbeddingRepository.save(updated));
+        return true;
+    }
+
+    private record StaleProfile(String targetRole, String text, String contentHash, UserProfileEmbeddingEntity existing) {
+    }
+
+    // 검색어가 바뀐 경우에만 임베딩 입력 반환, 직무도 관심사도 없으면 저장된 벡터 삭제
+    private StaleProfile findStale(Long userId, String model) {
+        String targetRole = findProfileTargetRole(userId);
+        String text = buildQuery(targetRole, userInterestRepository.findByUserIdOrderByScoreDesc(userId));
+
+        Optional<UserProfileEmbeddingEntity> existing = userProfileEmbeddingRepository.findById(userId);
+        if (text.isEmpty()) {
+            // 직무도 관심사도 없으면 개인화 벡터 없음
+            existing.ifPresent(userProfileEmbeddingRepository::delete);
+            return null;
+        }
+
+        String contentHash = ActivityEmbeddingService.contentHash(text);
+        if (existing.isPresent()
+                && contentHash.equals(existing.get().getContentHash())
+                && model.equals(existing.get().getModel())) {
+            return null;
+        }
+        return new StaleProfile(targetRole, text, contentHash, existing.orElse(null));
+    }
+
+    /**
+     * 목표 직무와 관심사 태그 이름(관심사 점수 순)으로 사용자 검색어 생성, 태그는 한 번에 조회
+     */
+    public String buildQuery(String targetRole, List<UserInterestEntity> userInterests) {
+        StringBuilder query = new StringBuilder();
+
+        if (targetRole != null && !targetRole.trim().isEmpty()) {
+            query.append(targetRole).append(" ");
+        }
+
+        if (!userInterests.isEmpty()) {
+            Map<Long, String> tagNames = referenceDataCache.tagNames(
+                    userInterests.stream().map(UserInterestEntity::getTagId).distinct().toList());
+            for (UserInterestEntity interest : userInterests) {
+                String tagName = tagNames.get(interest.getTagId());
+                if (tagName != null) {
+                    query.append(tagName).append(" ");
+                }
+            }
+        }
+
+        return query.toString().trim();
+    }
+
+    private static String normalize(String targetRole) {
+        return targetRole == null || targetRole.trim().isEmpty() ? null : targetRole.trim();
+    }
+}
@@ -10,6 +10,7 @@ import com.mentoai.mentoai.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,7 @@ public class UserProfileService {
     private final UserProfileRepository userProfileRepository;
     private final UserRepository userRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponse getProfile(Long userId) {
         UserEntity user = userRepository.findById(userId)
@@ -103,7 +105,9 @@ public class UserProfileService {
             
             // 최종 저장 (기존 엔티티는 merge, 새 엔티티는 이미 persist됨)
             entityManager.flush(); // 변경사항 반영
+            userProfileRepository.incrementVersion(userId); // RoleFit 결과 캐시 키 갱신
             log.debug("Successfully saved profile for user: {}", userId);
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
             
             // 엔티티를 다시 로드하여 최신 상태 보장
             UserProfileEntity saved = userProfileRepository.findById(userId)
@@ -0,0 +1,261 @@
+package com.mentoai.mentoai.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 활동 카탈로그의 불변 열 지향 스냅샷
+ * 활동별 속성은 기본형 배열에, 태그 ID는 CSR(offset + 값 배열) 형식으로 보관하여
+ * 엔티티 로딩 없이 전체 카탈로그를 순회하며 점수를 계산한다.
+ */
+public final class ActivityCatalogSnapshot {
+
+    public static final int ANY = -1;
+
+    private final long[] ids;
+    private final byte[] types;
+    private final boolean[] campus;
+    private final byte[] statuses;
+    // 일정이 없거나 접수 마감일이 있는 활동 (목록 검색과 같은 노출 조건)
+    private final boolean[] listed;
+    // i번째 활동의 태그는 tagIds[tagOffsets[i] .. tagOffsets[i + 1])
+    private final int[] tagOffsets;
+    private final long[] tagIds;
+    private final long createdAtMillis;
+
+    private ActivityCatalogSnapshot(long[] ids, byte[] types, boolean[] campus, byte[] statuses,
+                                    boolean[] listed, int[] tagOffsets, long[] tagIds, long createdAtMillis) {
+        this.ids = ids;
+        this.types = types;
+        this.campus = campus;
+        this.statuses = statuses;
+        this.listed = listed;
+        this.tagOffsets = tagOffsets;
+        this.tagIds = tagIds;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    public static ActivityCatalogSnapshot empty() {
+        return new Builder(0).build();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * 필터 조건, ANY(-1)/null이면 조건 없음
+     * @param listedOnly true면 일정이 없거나 접수 마감일이 있는 활동만
+     */
+    public record Filter(int typeOrdinal, Boolean campus, int statusOrdinal, boolean listedOnly) {
+
+        public static final Filter NONE = new Filter(ANY, null, ANY, false);
+    }
+
+    /**
+     * 관심사 점수 규칙 (태그 일치 시 가중치 합 + 유형/캠퍼스 가산점)
+     * @param interestTagIds 오름차순 정렬된 관심 태그 ID
+     * @param interestWeights interestTagIds와 같은 순서의 가중치
+     * @param typeBonus 유형 순서값별 가산점
+     */
+    public record InterestScorer(long[] interestTagIds, double[] interestWeights, double[] typeBonus, double campusBonus) {
+    }
+
+    public record ScoredActivity(long id, double score) {
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public boolean listed(int index) {
+        return listed[index];
+    }
+
+    /**
+     * 필터를 통과한 전체 활동 중 점수가 0보다 큰 상위 k개 (점수 내림차순, 동점이면 최신 ID 우선)
+     */
+    public List<ScoredActivity> topK(InterestScorer scorer, Filter filter, int k) {
+        if (k <= 0 || ids.length == 0) {
+            return List.of();
+        }
+
+        // 최소 힙: 루트가 현재 상위 k개 중 가장 낮은 항목
+        int[] heap = new int[k];
+        double[] heapScores = new double[k];
+        int heapSize = 0;
+
+        for (int i = 0; i < ids.length; i++) {
+            if (!matches(i, filter)) {
+                continue;
+            }
+            double score = score(i, scorer);
+            if (score <= 0) {
+                continue;
+            }
+
+            if (heapSize < k) {
+                heap[heapSize] = i;
+                heapScores[heapSize] = score;
+                siftUp(heap, heapScores, heapSize++);
+            } else if (isBetter(i, score, heap[0], heapScores[0])) {
+                heap[0] = i;
+                heapScores[0] = score;
+                siftDown(heap, heapScores, heapSize);
+            }
+        }
+
+        // 힙에서 가장 낮은 항목부터 꺼내 뒤에서부터 채움
+        ScoredActivity[] ranked = new ScoredActivity[heapSize];
+        for (int slot = heapSize - 1; slot >= 0; slot--) {
+            ranked[slot] = new ScoredActivity(ids[heap[0]], heapScores[0]);
+            heapSize--;
+            heap[0] = heap[heapSize];
+            heapScores[0] = heapScores[heapSize];
+            siftDown(heap, heapScores, heapSize);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private boolean matches(int index, Filter filter) {
+        return (filter.typeOrdinal() == ANY || types[index] == filter.typeOrdinal())
+                && (filter.campus() == null || campus[index] == filter.campus())
+                && (filter.statusOrdinal() == ANY || statuses[index] == filter.statusOrdinal())
+                && (!filter.listedOnly() || listed[index]);
+    }
+
+    private double score(int index, InterestScorer scorer) {
+        double score = 0.0;
+        long[] interestTagIds = scorer.interestTagIds();
+        for (int t = tagOffsets[index]; t < tagOffsets[index + 1]; t++) {
+            int found = Arrays.binarySearch(interestTagIds, tagIds[t]);
+            if (found >= 0) {
+                score += scorer.interestWeights()[found];
+            }
+        }
+        int type = types[index];
+        if (type >= 0 && type < scorer.typeBonus().length) {
+            score += scorer.typeBonus()[type];
+        }
+        if (campus[index]) {
+            score += scorer.campusBonus();
+        }
+        return score;
+    }
+
+    // 점수가 높거나, 같으면 ID가 큰(최근 등록된) 쪽이 우선
+    private boolean isBetter(int a, double scoreA, int b, double scoreB) {
+        if (scoreA != scoreB) {
+            return scoreA > scoreB;
+        }
+        return ids[a] > ids[b];
+    }
+
+    private void siftUp(int[] heap, double[] heapScores, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBetter(heap[parent], heapScores[parent], heap[position], heapScores[position])) {
+                break;
+            }
+            swap(heap, heapScores, parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, double[] heapScores, int size) {
+        int position = 0;
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int worst = right < size && isBetter(heap[left], heapScores[left], heap[right], heapScores[right]) ? right : left;
+            if (!isBetter(heap[position], heapScores[position], heap[worst], heapScores[worst])) {
+                break;
+            }
+            swap(heap, heapScores, position, worst);
+            position = worst;
+        }
+    }
+
+    private static void swap(int[] heap, double[] heapScores, int i, int j) {
+        int index = heap[i];
+        heap[i] = heap[j];
+        heap[j] = index;
+        double score = heapScores[i];
+        heapScores[i] = heapScores[j];
+        heapScores[j] = score;
+    }
+
+    /**
+     * 활동 ID 오름차순으로 추가하는 스냅샷 빌더
+     */
+    public static final class Builder {
+
+        private long[] ids;
+        private byte[] types;
+        private boolean[] campus;
+        private byte[] statuses;
+        private boolean[] listed;
+        private final List<long[]> tagsPerActivity;
+        private int size = 0;
+        private int tagCount = 0;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new long[capacity];
+            types = new byte[capacity];
+            campus = new boolean[capacity];
+            statuses = new byte[capacity];
+            listed = new boolean[capacity];
+            tagsPerActivity = new ArrayList<>(capacity);
+        }
+
+        public Builder add(long id, int typeOrdinal, boolean isCampus, int statusOrdinal, boolean isListed, long[] tags) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                types = Arrays.copyOf(types, capacity);
+                campus = Arrays.copyOf(campus, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                listed = Arrays.copyOf(listed, capacity);
+            }
+            ids[size] = id;
+            types[size] = (byte) typeOrdinal;
+            campus[size] = isCampus;
+            statuses[size] = (byte) statusOrdinal;
+            listed[size] = isListed;
+            tagsPerActivity.add(tags);
+            tagCount += tags.length;
+            size++;
+            return this;
+        }
+
+        public ActivityCatalogSnapshot build() {
+            int[] tagOffsets = new int[size + 1];
+            long[] tagIds = new long[tagCount];
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                tagOffsets[i] = offset;
+                long[] tags = tagsPerActivity.get(i);
+                System.arraycopy(tags, 0, tagIds, offset, tags.length);
+                offset += tags.length;
+            }
+            tagOffsets[size] = offset;
+            return new ActivityCatalogSnapshot(
+                    Arrays.copyOf(ids, size), Arrays.copyOf(types, size), Arrays.copyOf(campus, size),
+                    Arrays.copyOf(statuses, size), Arrays.copyOf(listed, size), tagOffsets, tagIds,
+                    System.currentTimeMillis());
+        }
+    }
+}
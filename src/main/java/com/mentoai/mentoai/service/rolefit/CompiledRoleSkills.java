@@ -0,0 +1,179 @@
+package com.mentoai.mentoai.service.rolefit;
+
+import com.mentoai.mentoai.entity.WeightedSkill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 목표 직무 스킬 요구사항을 컴파일한 불변 희소 벡터
+ * 직무 버전마다 한 번만 만들고, 사용자 스킬 벡터와는 기본형 배열만으로 비교하여 점수 계산 시 할당이 없다.
+ */
+public final class CompiledRoleSkills {
+
+    private final String roleId;
+    private final long version;
+    private final boolean hasRequiredSkills;
+
+    // coverage 계산용 필수 스킬 (가중치 > 0, 정의 순서, 중복 유지)
+    private final int[] coverageIds;
+    private final double[] coverageWeights;
+    private final double coverageWeightSum;
+
+    // 코사인 유사도용 목표 벡터 (필수 + 가산 스킬, ID 오름차순, 같은 이름은 가중치 합산)
+    private final int[] targetIds;
+    private final double[] targetWeights;
+    private final double targetNorm;
+
+    private final List<String> skillUniverse;
+    private final List<RequiredSkill> requiredSkills;
+
+    /**
+     * 부족 스킬 안내용 필수 스킬 (이름이 있는 항목만)
+     */
+    public record RequiredSkill(String name, String normalizedName, Double weight) {
+    }
+
+    private CompiledRoleSkills(String roleId, long version, boolean hasRequiredSkills,
+                               int[] coverageIds, double[] coverageWeights, double coverageWeightSum,
+                               int[] targetIds, double[] targetWeights, double targetNorm,
+                               List<String> skillUniverse, List<RequiredSkill> requiredSkills) {
+        this.roleId = roleId;
+        this.version = version;
+        this.hasRequiredSkills = hasRequiredSkills;
+        this.coverageIds = coverageIds;
+        this.coverageWeights = coverageWeights;
+        this.coverageWeightSum = coverageWeightSum;
+        this.targetIds = targetIds;
+        this.targetWeights = targetWeights;
+        this.targetNorm = targetNorm;
+        this.skillUniverse = skillUniverse;
+        this.requiredSkills = requiredSkills;
+    }
+
+    public static CompiledRoleSkills compile(String roleId, long version,
+                                             List<WeightedSkill> required, List<WeightedSkill> bonus,
+                                             SkillDictionary dictionary) {
+        List<WeightedSkill> requiredList = required != null ? required : List.of();
+        List<WeightedSkill> bonusList = bonus != null ? bonus : List.of();
+
+        int[] coverageIds = new int[requiredList.size()];
+        double[] coverageWeights = new double[requiredList.size()];
+        double coverageWeightSum = 0.0;
+        int coverageCount = 0;
+        List<RequiredSkill> requiredSkills = new ArrayList<>();
+        for (WeightedSkill skill : requiredList) {
+            if (skill.getName() != null) {
+                requiredSkills.add(new RequiredSkill(
+                        skill.getName(), SkillDictionary.normalize(skill.getName()), skill.getWeight()));
+            }
+            if (skill.getWeight() == null || skill.getWeight() <= 0) {
+                continue;
+            }
+            coverageIds[coverageCount] = dictionary.intern(SkillDictionary.normalize(skill.getName()));
+            coverageWeights[coverageCount] = skill.getWeight();
+            coverageWeightSum += skill.getWeight();
+            coverageCount++;
+        }
+
+        Map<Integer, Double> target = new TreeMap<>();
+        Set<String> universe = new LinkedHashSet<>();
+        List<WeightedSkill> allTargetSkills = new ArrayList<>(requiredList);
+        allTargetSkills.addAll(bonusList);
+        for (WeightedSkill skill : allTargetSkills) {
+            if (skill.getName() == null) {
+                continue;
+            }
+            String normalized = SkillDictionary.normalize(skill.getName());
+            universe.add(normalized);
+            target.merge(dictionary.intern(normalized), skill.getWeight() != null ? skill.getWeight() : 0.0, Double::sum);
+        }
+
+        int[] targetIds = new int[target.size()];
+        double[] targetWeights = new double[target.size()];
+        double normSquared = 0.0;
+        int index = 0;
+        for (Map.Entry<Integer, Double> entry : target.entrySet()) {
+            targetIds[index] = entry.getKey();
+            targetWeights[index] = entry.getValue();
+            normSquared += entry.getValue() * entry.getValue();
+            index++;
+        }
+
+        return new CompiledRoleSkills(roleId, version, !requiredList.isEmpty(),
+                Arrays.copyOf(coverageIds, coverageCount),
+                Arrays.copyOf(coverageWeights, coverageCount),
+                coverageWeightSum, targetIds, targetWeights, Math.sqrt(normSquared),
+                List.copyOf(universe), List.copyOf(requiredSkills));
+    }
+
+    public String roleId() {
+        return roleId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public boolean hasRequiredSkills() {
+        return hasRequiredSkills;
+    }
+
+    /**
+     * 필수 스킬 충족도: Σ min(userLevel, reqWeight) / Σ reqWeight
+     */
+    public double coverage(UserSkillVector user) {
+        if (coverageWeightSum <= 0) {
+            return 0.0;
+        }
+        double covered = 0.0;
+        for (int i = 0; i < coverageIds.length; i++) {
+            double level = user.levelOf(coverageIds[i]);
+            if (level >= 0) {
+                covered += Math.min(level, coverageWeights[i]);
+            }
+        }
+        return covered / coverageWeightSum;
+    }
+
+    /**
+     * 사용자 스킬 벡터와 목표 벡터의 코사인 유사도 (두 정렬 배열 병합 순회)
+     */
+    public double cosine(UserSkillVector user) {
+        if (user.isEmpty() || targetIds.length == 0) {
+            return 0.0;
+        }
+        double dot = 0.0;
+        int u = 0;
+        int t = 0;
+        while (u < user.size() && t < targetIds.length) {
+            int userId = user.id(u);
+            int targetId = targetIds[t];
+            if (userId == targetId) {
+                dot += user.level(u++) * targetWeights[t++];
+            } else if (userId < targetId) {
+                u++;
+            } else {
+                t++;
+            }
+        }
+        double denominator = Math.sqrt(user.normSquared()) * targetNorm;
+        return denominator > 0 ? dot / denominator : 0.0;
+    }
+
+    /**
+     * 필수 + 가산 스킬 이름 (소문자, 중복 제거)
+     */
+    public List<String> skillUniverse() {
+        return skillUniverse;
+    }
+
+    public List<RequiredSkill> requiredSkills() {
+        return requiredSkills;
+    }
+}
@@ -0,0 +1,63 @@
+package com.mentoai.mentoai.service.rolefit;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.entity.WeightedMajor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RoleFit 계산에 필요한 목표 직무 요구사항의 불변 스냅샷 (직무 버전별로 한 번 생성)
+ * 엔티티 지연 로딩 없이 여러 스레드에서 동시에 점수를 계산할 수 있다.
+ * @param majorMapping 전공 매핑 (소문자 전공명, 정의 순서)
+ * @param recommendedCerts 추천 자격증 원본 (안내 문구용)
+ * @param normalizedCerts 추천 자격증 (소문자, 빈 값 제외)
+ */
+public record RoleRequirements(
+        String roleId,
+        long version,
+        String name,
+        String expectedSeniority,
+        List<MajorWeight> majorMapping,
+        List<String> recommendedCerts,
+        List<String> normalizedCerts,
+        CompiledRoleSkills skills
+) {
+
+    public record MajorWeight(String major, Double weight) {
+    }
+
+    public static RoleRequirements compile(TargetRoleEntity role, long version, SkillDictionary dictionary) {
+        List<MajorWeight> majors = new ArrayList<>();
+        if (role.getMajorMapping() != null) {
+            for (WeightedMajor mapping : role.getMajorMapping()) {
+                majors.add(new MajorWeight(
+                        mapping.getMajor() != null ? mapping.getMajor().toLowerCase(Locale.ROOT) : null,
+                        mapping.getWeight()));
+            }
+        }
+
+        // 원본 목록에는 null이 있을 수 있어 List.copyOf 대신 복사 후 읽기 전용으로 감쌈
+        List<String> certs = role.getRecommendedCerts() != null
+                ? Collections.unmodifiableList(new ArrayList<>(role.getRecommendedCerts()))
+                : List.of();
+        List<String> normalizedCerts = certs.stream()
+                .filter(cert -> cert != null && !cert.isBlank())
+                .map(cert -> cert.toLowerCase(Locale.ROOT))
+                .toList();
+
+        return new RoleRequirements(
+                role.getRoleId(),
+                version,
+                role.getName(),
+                role.getExpectedSeniority(),
+                List.copyOf(majors),
+                certs,
+                normalizedCerts,
+                CompiledRoleSkills.compile(
+                        role.getRoleId(), version, role.getRequiredSkills(), role.getBonusSkills(), dictionary)
+        );
+    }
+}
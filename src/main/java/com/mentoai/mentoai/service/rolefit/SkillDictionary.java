@@ -0,0 +1,38 @@
+package com.mentoai.mentoai.service.rolefit;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스킬 이름(소문자) → 정수 ID 사전
+ * 직무 스킬을 컴파일할 때만 등록하므로 크기는 직무 스킬 종류 수로 제한된다.
+ */
+public final class SkillDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int intern(String normalizedName) {
+        return ids.computeIfAbsent(normalizedName, name -> nextId.getAndIncrement());
+    }
+
+    /**
+     * 등록된 스킬 ID, 어떤 직무에도 없는 스킬이면 UNKNOWN
+     */
+    public int idOf(String normalizedName) {
+        Integer id = ids.get(normalizedName);
+        return id != null ? id : UNKNOWN;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    // 기존 RoleFit 비교 규칙과 동일 (null은 빈 문자열, 소문자화)
+    public static String normalize(String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,109 @@
+package com.mentoai.mentoai.service.rolefit;
+
+import com.mentoai.mentoai.entity.SkillLevel;
+import com.mentoai.mentoai.entity.UserProfileSkill;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 보유 스킬의 희소 벡터 (스킬 ID 오름차순, 값은 숙련도 수치)
+ * 어떤 직무에도 없는 스킬은 배열에서 빠지지만 벡터 크기(normSquared)에는 포함된다.
+ */
+public final class UserSkillVector {
+
+    private static final UserSkillVector EMPTY = new UserSkillVector(new int[0], new double[0], 0.0, 0);
+
+    private final int[] ids;
+    private final double[] levels;
+    private final double normSquared;
+    private final int skillCount;
+
+    private UserSkillVector(int[] ids, double[] levels, double normSquared, int skillCount) {
+        this.ids = ids;
+        this.levels = levels;
+        this.normSquared = normSquared;
+        this.skillCount = skillCount;
+    }
+
+    /**
+     * 같은 이름(대소문자 무시)의 스킬은 높은 숙련도만 사용
+     */
+    public static UserSkillVector of(List<UserProfileSkill> skills, SkillDictionary dictionary) {
+        if (skills == null || skills.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Double> levelsByName = new HashMap<>();
+        for (UserProfileSkill skill : skills) {
+            levelsByName.merge(SkillDictionary.normalize(skill.getName()), levelValue(skill.getLevel()), Math::max);
+        }
+
+        long[] packed = new long[levelsByName.size()];
+        double[] values = new double[levelsByName.size()];
+        double normSquared = 0.0;
+        int known = 0;
+        for (Map.Entry<String, Double> entry : levelsByName.entrySet()) {
+            double level = entry.getValue();
+            normSquared += level * level;
+            int id = dictionary.idOf(entry.getKey());
+            if (id != SkillDictionary.UNKNOWN) {
+                // 상위 32비트에 ID, 하위에 값 위치를 담아 ID 순으로 정렬
+                packed[known] = ((long) id << 32) | known;
+                values[known] = level;
+                known++;
+            }
+        }
+
+        Arrays.sort(packed, 0, known);
+        int[] ids = new int[known];
+        double[] levels = new double[known];
+        for (int i = 0; i < known; i++) {
+            ids[i] = (int) (packed[i] >>> 32);
+            levels[i] = values[(int) packed[i]];
+        }
+        return new UserSkillVector(ids, levels, normSquared, levelsByName.size());
+    }
+
+    public static double levelValue(SkillLevel level) {
+        if (level == null) {
+            return 0.0;
+        }
+        return switch (level) {
+            case BEGINNER -> 0.5;
+            case INTERMEDIATE -> 0.75;
+            case ADVANCED -> 1.0;
+            case EXPERT -> 1.2;
+        };
+    }
+
+    public boolean isEmpty() {
+        return skillCount == 0;
+    }
+
+    public double normSquared() {
+        return normSquared;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int id(int index) {
+        return ids[index];
+    }
+
+    double level(int index) {
+        return levels[index];
+    }
+
+    /**
+     * 스킬 ID의 숙련도, 없으면 -1
+     */
+    double levelOf(int skillId) {
+        int index = Arrays.binarySearch(ids, skillId);
+        return index >= 0 ? levels[index] : -1.0;
+    }
+}
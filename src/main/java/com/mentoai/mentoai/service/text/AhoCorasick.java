@@ -0,0 +1,110 @@
+package com.mentoai.mentoai.service.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 패턴을 한 번의 텍스트 순회로 찾는 Aho-Corasick 오토마톤 (생성 후 불변, 스레드 안전)
+ * 패턴과 입력은 호출자가 같은 방식으로 정규화(소문자화 등)해서 넘긴다.
+ */
+public final class AhoCorasick<V> {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    // 상태에서 끝나는 패턴 (실패 링크를 따라 도달하는 출력까지 포함)
+    private final List<List<Pattern<V>>> outputs = new ArrayList<>();
+
+    public record Match<V>(int start, int end, String pattern, V value) {
+    }
+
+    private record Pattern<V>(String text, V value) {
+    }
+
+    private AhoCorasick() {
+        newState();
+    }
+
+    /**
+     * 패턴 → 값 매핑으로 오토마톤 생성 (빈 패턴은 무시)
+     */
+    public static <V> AhoCorasick<V> compile(Map<String, V> patterns) {
+        AhoCorasick<V> automaton = new AhoCorasick<>();
+        patterns.forEach(automaton::add);
+        automaton.buildFailureLinks();
+        return automaton;
+    }
+
+    /**
+     * 텍스트에서 모든 패턴 출현 위치 검색 (겹치는 출현 포함, 끝 위치 순)
+     */
+    public List<Match<V>> findAll(String text) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (text == null) {
+            return matches;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failures.get(state);
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            for (Pattern<V> pattern : outputs.get(state)) {
+                matches.add(new Match<>(i + 1 - pattern.text().length(), i + 1, pattern.text(), pattern.value()));
+            }
+        }
+        return matches;
+    }
+
+    public boolean isEmpty() {
+        return transitions.size() == 1;
+    }
+
+    private void add(String text, V value) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            Integer next = transitions.get(state).get(text.charAt(i));
+            if (next == null) {
+                next = newState();
+                transitions.get(state).put(text.charAt(i), next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(new Pattern<>(text, value));
+    }
+
+    // 너비 우선으로 실패 링크를 만들고 출력 병합
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int failure = failures.get(state);
+                while (failure != 0 && !transitions.get(failure).containsKey(edge.getKey())) {
+                    failure = failures.get(failure);
+                }
+                Integer target = transitions.get(failure).get(edge.getKey());
+                int childFailure = target != null && target != child ? target : 0;
+                failures.set(child, childFailure);
+                outputs.get(child).addAll(outputs.get(childFailure));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        failures.add(0);
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+}
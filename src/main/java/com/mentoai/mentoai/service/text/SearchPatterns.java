@@ -0,0 +1,56 @@
+package com.mentoai.mentoai.service.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL 검색 조건 생성 (search_vector 전문 검색식, 제목 부분 일치 패턴)
+ */
+public final class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    /**
+     * 검색어를 어절별 접두 일치 AND 검색식으로 변환 (예: "백엔드 인턴" → "백엔드:* & 인턴:*")
+     * @return 검색 가능한 어절이 없으면 null
+     */
+    public static String prefixAll(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        List<String> lexemes = new ArrayList<>();
+        for (String word : query.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            String lexeme = word.replaceAll("[^\\p{L}\\p{N}]", "");
+            if (!lexeme.isEmpty()) {
+                lexemes.add(lexeme + ":*");
+            }
+        }
+        return lexemes.isEmpty() ? null : String.join(" & ", lexemes);
+    }
+
+    /**
+     * 여러 검색어 중 하나라도 일치하는 OR 검색식 (예: "(개발:*) | (소프트웨어:*)")
+     * @return 검색 가능한 어절이 없으면 null
+     */
+    public static String anyOf(Collection<String> queries) {
+        List<String> clauses = new ArrayList<>();
+        for (String query : queries) {
+            String clause = prefixAll(query);
+            if (clause != null && !clauses.contains("(" + clause + ")")) {
+                clauses.add("(" + clause + ")");
+            }
+        }
+        return clauses.isEmpty() ? null : String.join(" | ", clauses);
+    }
+
+    /**
+     * 부분 일치 LIKE/ILIKE 패턴 (%, _, \ 이스케이프)
+     */
+    public static String contains(String query) {
+        String escaped = query.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
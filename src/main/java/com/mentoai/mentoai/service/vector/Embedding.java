@@ -0,0 +1,74 @@
+package com.mentoai.mentoai.service.vector;
+
+import java.util.List;
+
+/**
+ * 정규화된 float 임베딩 벡터
+ * 생성 시 L2 정규화하므로 코사인 유사도는 내적 한 번으로 계산된다.
+ */
+public final class Embedding {
+
+    private final float[] values;
+
+    private Embedding(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 원본 벡터를 복사하여 정규화
+     */
+    public static Embedding of(float[] vector) {
+        if (vector == null || vector.length == 0) {
+            throw new IllegalArgumentException("임베딩 벡터가 비어 있습니다.");
+        }
+        float[] normalized = vector.clone();
+        double sum = 0.0;
+        for (float value : normalized) {
+            sum += value * value;
+        }
+        if (sum > 0.0) {
+            float inverseNorm = (float) (1.0 / Math.sqrt(sum));
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] *= inverseNorm;
+            }
+        }
+        return new Embedding(normalized);
+    }
+
+    public static Embedding of(List<Double> vector) {
+        if (vector == null || vector.isEmpty()) {
+            throw new IllegalArgumentException("임베딩 벡터가 비어 있습니다.");
+        }
+        float[] values = new float[vector.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = vector.get(i).floatValue();
+        }
+        return of(values);
+    }
+
+    /**
+     * 코사인 유사도 (정규화된 벡터의 내적), 차원이 다르면 0
+     */
+    public double similarity(Embedding other) {
+        if (other == null || other.values.length != values.length) {
+            return 0.0;
+        }
+        return VectorOps.dot(values, other.values);
+    }
+
+    public int dimension() {
+        return values.length;
+    }
+
+    /**
+     * 저장용 복사본
+     */
+    public float[] toArray() {
+        return values.clone();
+    }
+
+    // 인덱스 내부에서 복사 없이 사용
+    float[] values() {
+        return values;
+    }
+}
@@ -0,0 +1,681 @@
+package com.mentoai.mentoai.service.vector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * 정규화된 {@link Embedding}을 저장하므로 코사인 유사도를 내적으로 계산한다.
+ * 삭제는 톰스톤으로 표시하고, 삭제 비율이 높아지면 압축 필요로 표시만 한다.
+ * 재구성은 {@link #compact()}로 잠금 밖에서 새 인덱스를 만들어 호출 측이 교체한다.
+ * 스냅샷에서 복원한 노드의 벡터는 매핑된 파일에서 직접 읽는다.
+ * 양자화기를 지정하면 벡터는 byte 코드로 보관하며(매핑된 스냅샷 노드는 원본 위치도 유지), 검색 점수는 근사값이 된다.
+ */
+public class HnswIndex {
+
+    private static final double COMPACT_DELETED_RATIO = 0.3;
+    private static final int COMPACT_MIN_NODES = 1000;
+
+    private final int m;
+    private final int maxLinksLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeIndexById = new HashMap<>();
+    private int dimension = -1;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount = 0;
+    private ByteBuffer mappedVectors;
+    private Instant snapshotCreatedAt;
+    private VectorQuantizer quantizer;
+    private volatile boolean compactionNeeded;
+
+    public HnswIndex(int m, int efConstruction, long seed) {
+        this(m, efConstruction, seed, null);
+    }
+
+    public HnswIndex(int m, int efConstruction, long seed, VectorQuantizer quantizer) {
+        if (m < 2) {
+            throw new IllegalArgumentException("HNSW M은 2 이상이어야 합니다.");
+        }
+        this.m = m;
+        this.maxLinksLevel0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        this.quantizer = quantizer;
+    }
+
+    public record SearchResult(long id, double similarity) {
+    }
+
+    /**
+     * 벡터 추가 (같은 ID가 있으면 교체)
+     */
+    public void upsert(long id, Embedding embedding) {
+        float[] normalized = embedding.values();
+        lock.writeLock().lock();
+        try {
+            if (dimension < 0) {
+                dimension = normalized.length;
+            } else if (dimension != normalized.length) {
+                throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다: " + normalized.length + " != " + dimension);
+            }
+            markDeleted(id);
+            insert(id, normalized);
+            markCompactionIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+            markCompactionIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            dimension = -1;
+            mappedVectors = null;
+            compactionNeeded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 가장 유사한 상위 k개 검색
+     * @param ef 탐색 후보 크기 (클수록 정확하지만 느림)
+     */
+    public List<SearchResult> search(Embedding query, int k, int ef) {
+        if (k <= 0) {
+            return List.of();
+        }
+        float[] normalized = query.values();
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || normalized.length != dimension) {
+                return List.of();
+            }
+
+            NodeScorer scorer = queryScorer(normalized);
+            int current = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                current = greedySearch(scorer, current, level);
+            }
+
+            List<Candidate> candidates = searchLayer(scorer, current, Math.max(ef, k), 0);
+            List<SearchResult> results = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                Node node = nodes.get(candidate.node());
+                if (node.deleted) {
+                    continue;
+                }
+                results.add(new SearchResult(node.id, candidate.similarity()));
+                if (results.size() == k) {
+                    break;
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return nodeIndexById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeIndexById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 양자화기 지정, 기존 노드도 코드로 바꾸어 힙의 float 벡터를 해제
+     * 코드 계산은 잠금 밖에서 하고, 그 사이 추가된 노드만 쓰기 잠금 안에서 인코딩한다.
+     */
+    public void useQuantizer(VectorQuantizer quantizer) {
+        List<Node> existing;
+        lock.readLock().lock();
+        try {
+            if (this.quantizer != null && nodes.stream().anyMatch(node -> node.code != null)) {
+                throw new IllegalStateException("이미 양자화된 노드가 있어 양자화기를 바꿀 수 없습니다.");
+            }
+            existing = new ArrayList<>(nodes);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 삭제된 노드도 그래프 탐색에 쓰이므로 함께 인코딩
+        byte[][] codes = new byte[existing.size()][];
+        for (int i = 0; i < existing.size(); i++) {
+            codes[i] = quantizer.encode(vectorOf(existing.get(i)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.quantizer = quantizer;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                if (node.code == null) {
+                    node.code = i < codes.length && existing.get(i) == node ? codes[i] : quantizer.encode(vectorOf(node));
+                }
+                node.vector = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 노드 비율이 높아 compact()로 교체할 필요가 있는지
+     */
+    public boolean needsCompaction() {
+        return compactionNeeded;
+    }
+
+    /**
+     * 삭제되지 않은 노드만으로 새 그래프를 만든 인덱스 반환
+     * 이 인덱스는 노드 목록을 복사하는 동안만 읽기 잠금을 잡으므로 재구성 중에도 검색/갱신이 막히지 않는다.
+     * 매핑된 스냅샷 벡터와 양자화 코드는 새 인덱스가 그대로 공유하여 힙으로 복사하지 않으며,
+     * 복사 이후 이 인덱스에 반영된 변경은 호출 측에서 새 인덱스에 다시 적용해야 한다.
+     */
+    public HnswIndex compact() {
+        List<Node> copies;
+        HnswIndex compacted;
+        lock.readLock().lock();
+        try {
+            compacted = new HnswIndex(m, efConstruction, random.nextLong(), quantizer);
+            compacted.dimension = dimension;
+            compacted.mappedVectors = mappedVectors;
+            compacted.snapshotCreatedAt = snapshotCreatedAt;
+            copies = new ArrayList<>(nodeIndexById.size());
+            for (Node node : nodes) {
+                if (!node.deleted) {
+                    Node copy = new Node(node.id, node.vector, node.code, node.mappedOrdinal,
+                            compacted.randomLevel(), m, maxLinksLevel0);
+                    copy.approximate = node.approximate;
+                    copies.add(copy);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 아직 공개되지 않은 인덱스이므로 잠금 없이 삽입
+        for (Node copy : copies) {
+            compacted.insertNode(copy, compacted.vectorOf(copy));
+        }
+        if (copies.stream().allMatch(node -> node.mappedOrdinal < 0)) {
+            compacted.mappedVectors = null;
+        }
+        return compacted;
+    }
+
+    public boolean isQuantized() {
+        return quantizer != null;
+    }
+
+    /**
+     * 양자화기 학습용 표본 벡터 (삭제되지 않은 노드에서 균등 추출)
+     */
+    public List<float[]> sampleVectors(int maxCount) {
+        lock.readLock().lock();
+        try {
+            List<float[]> sample = new ArrayList<>(Math.min(maxCount, nodeIndexById.size()));
+            int step = Math.max(1, nodes.size() / Math.max(1, maxCount));
+            for (int i = 0; i < nodes.size() && sample.size() < maxCount; i += step) {
+                Node node = nodes.get(i);
+                if (!node.deleted) {
+                    sample.add(vectorOf(node));
+                }
+            }
+            return sample;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 보관에 쓰이는 노드당 평균 바이트 수 (매핑된 벡터는 힙 밖이므로 제외)
+     */
+    public double heapBytesPerVector() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Node node : nodes) {
+                if (node.vector != null) {
+                    bytes += (long) node.vector.length * Float.BYTES;
+                } else if (node.code != null) {
+                    bytes += node.code.length;
+                }
+            }
+            return nodes.isEmpty() ? 0.0 : (double) bytes / nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷에 원본 대신 양자화 코드의 복원값으로 저장되어 있던 활동 ID (저장소의 원본으로 다시 넣어야 함)
+     */
+    public List<Long> approximateIds() {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Node node : nodes) {
+                if (!node.deleted && node.approximate) {
+                    ids.add(node.id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(nodeIndexById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 복원에 사용한 스냅샷의 생성 시각 (스냅샷에서 복원하지 않았으면 null)
+     */
+    public Instant snapshotCreatedAt() {
+        return snapshotCreatedAt;
+    }
+
+    /**
+     * 현재 그래프와 벡터를 스냅샷 파일로 기록
+     */
+    public void writeSnapshot(Path path, String model) throws IOException {
+        lock.readLock().lock();
+        try {
+            int nodeCount = nodes.size();
+            long[] ids = new long[nodeCount];
+            boolean[] deleted = new boolean[nodeCount];
+            boolean[] approximate = new boolean[nodeCount];
+            int[][][] links = new int[nodeCount][][];
+            for (int i = 0; i < nodeCount; i++) {
+                Node node = nodes.get(i);
+                ids[i] = node.id;
+                deleted[i] = node.deleted;
+                // 원본(힙 또는 매핑된 파일)이 없으면 코드 복원값을 기록하므로 근사로 표시
+                approximate[i] = node.approximate || (node.vector == null && node.mappedOrdinal < 0);
+                links[i] = new int[node.level + 1][];
+                for (int level = 0; level <= node.level; level++) {
+                    links[i][level] = Arrays.copyOf(node.links[level], node.linkCounts[level]);
+                }
+            }
+            HnswSnapshot.Graph graph = new HnswSnapshot.Graph(model, System.currentTimeMillis(), Math.max(dimension, 0),
+                    entryPoint, maxLevel, ids, deleted, approximate, links, null);
+            HnswSnapshot.write(path, graph, i -> vectorOf(nodes.get(i)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 파일에서 인덱스 복원 (벡터는 힙에 복사하지 않음)
+     */
+    public static HnswIndex openSnapshot(Path path, String model, int m, int efConstruction, long seed) throws IOException {
+        HnswSnapshot.Graph graph = HnswSnapshot.read(path);
+        if (!graph.model().equals(model)) {
+            throw new IOException("Snapshot model mismatch: " + graph.model() + " != " + model);
+        }
+
+        HnswIndex index = new HnswIndex(m, efConstruction, seed);
+        index.mappedVectors = graph.vectors();
+        index.snapshotCreatedAt = Instant.ofEpochMilli(graph.createdAtMillis());
+        index.dimension = graph.ids().length == 0 ? -1 : graph.dimension();
+        index.entryPoint = graph.entryPoint();
+        index.maxLevel = graph.maxLevel();
+        for (int i = 0; i < graph.ids().length; i++) {
+            Node node = Node.mapped(graph.ids()[i], i, graph.links()[i], m, index.maxLinksLevel0);
+            node.deleted = graph.deleted()[i];
+            node.approximate = graph.approximate()[i];
+            index.nodes.add(node);
+            if (node.deleted) {
+                index.deletedCount++;
+            } else {
+                index.nodeIndexById.put(node.id, i);
+            }
+        }
+        index.markCompactionIfNeeded();
+        return index;
+    }
+
+    private void insert(long id, float[] vector) {
+        int level = randomLevel();
+        Node node = quantizer == null
+                ? new Node(id, vector, null, -1, level, m, maxLinksLevel0)
+                : new Node(id, null, quantizer.encode(vector), -1, level, m, maxLinksLevel0);
+        insertNode(node, vector);
+    }
+
+    // vector는 이웃 탐색용 원본 (노드가 코드/매핑 벡터만 보관해도 그래프 구성에는 float 벡터 사용)
+    private void insertNode(Node node, float[] vector) {
+        int level = node.level;
+        int nodeIndex = nodes.size();
+        nodes.add(node);
+        nodeIndexById.put(node.id, nodeIndex);
+
+        if (entryPoint < 0) {
+            entryPoint = nodeIndex;
+            maxLevel = level;
+            return;
+        }
+
+        NodeScorer scorer = other -> similarity(vector, other);
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedySearch(scorer, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(scorer, current, efConstruction, l);
+            int maxLinks = l == 0 ? maxLinksLevel0 : m;
+            List<Candidate> neighbors = selectNeighbors(candidates, m);
+            for (Candidate neighbor : neighbors) {
+                node.addLink(l, neighbor.node());
+                connect(neighbor.node(), nodeIndex, l, maxLinks);
+            }
+            current = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = nodeIndex;
+            maxLevel = level;
+        }
+    }
+
+    // 이웃 노드에 역방향 링크 추가, 최대 연결 수를 넘으면 휴리스틱으로 정리
+    private void connect(int from, int to, int level, int maxLinks) {
+        Node node = nodes.get(from);
+        if (node.linkCount(level) < maxLinks) {
+            node.addLink(level, to);
+            return;
+        }
+
+        float[] vector = vectorOf(node);
+        List<Candidate> candidates = new ArrayList<>(maxLinks + 1);
+        int[] links = node.links[level];
+        for (int i = 0; i < node.linkCounts[level]; i++) {
+            candidates.add(new Candidate(links[i], similarity(vector, links[i])));
+        }
+        candidates.add(new Candidate(to, similarity(vector, to)));
+        candidates.sort(Candidate.BY_SIMILARITY_DESC);
+
+        List<Candidate> selected = selectNeighbors(candidates, maxLinks);
+        node.linkCounts[level] = 0;
+        for (Candidate candidate : selected) {
+            node.addLink(level, candidate.node());
+        }
+    }
+
+    // 상위 레벨에서 질의에 가장 가까운 노드로 탐욕적으로 이동
+    private int greedySearch(NodeScorer scorer, int start, int level) {
+        int current = start;
+        double best = scorer.score(current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node node = nodes.get(current);
+            int[] links = node.links[level];
+            for (int i = 0; i < node.linkCounts[level]; i++) {
+                double similarity = scorer.score(links[i]);
+                if (similarity > best) {
+                    best = similarity;
+                    current = links[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 한 레벨에서 ef 크기의 후보 집합 탐색, 유사도 내림차순으로 반환
+    private List<Candidate> searchLayer(NodeScorer scorer, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Candidate.BY_SIMILARITY_DESC);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Candidate.BY_SIMILARITY_ASC);
+
+        Candidate first = new Candidate(start, scorer.score(start));
+        visited.set(start);
+        candidates.add(first);
+        results.add(first);
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.similarity() < results.peek().similarity()) {
+                break;
+            }
+
+            Node node = nodes.get(current.node());
+            if (node.level < level) {
+                continue;
+            }
+            int[] links = node.links[level];
+            for (int i = 0; i < node.linkCounts[level]; i++) {
+                int neighbor = links[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double similarity = scorer.score(neighbor);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Candidate candidate = new Candidate(neighbor, similarity);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Candidate.BY_SIMILARITY_DESC);
+        return sorted;
+    }
+
+    // 이웃 선택 휴리스틱: 이미 선택된 이웃보다 후보에 더 가까운 경우만 채택하여 그래프 다양성 유지
+    private List<Candidate> selectNeighbors(List<Candidate> sortedCandidates, int maxCount) {
+        List<Candidate> selected = new ArrayList<>(maxCount);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : sortedCandidates) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            float[] vector = vectorOf(nodes.get(candidate.node()));
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (similarity(vector, chosen.node()) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+
+        // 연결 수가 부족하면 제외된 후보로 채움
+        for (Candidate candidate : pruned) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            selected.add(candidate);
+        }
+        return selected;
+    }
+
+    private void markDeleted(long id) {
+        Integer nodeIndex = nodeIndexById.remove(id);
+        if (nodeIndex != null) {
+            nodes.get(nodeIndex).deleted = true;
+            deletedCount++;
+        }
+    }
+
+    // 재구성은 호출 측이 compact()로 처리하고 여기서는 표시만 함
+    private void markCompactionIfNeeded() {
+        if (nodes.size() >= COMPACT_MIN_NODES && deletedCount >= nodes.size() * COMPACT_DELETED_RATIO) {
+            compactionNeeded = true;
+        }
+    }
+
+    private void reset() {
+        nodes.clear();
+        nodeIndexById.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+        deletedCount = 0;
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble();
+        return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+    }
+
+    // 검색 질의용 점수 계산기 (양자화 코드는 질의별로 미리 계산된 테이블 사용)
+    private NodeScorer queryScorer(float[] query) {
+        if (quantizer == null) {
+            return nodeIndex -> similarity(query, nodeIndex);
+        }
+        VectorQuantizer.CodeScorer codeScorer = quantizer.prepare(query);
+        return nodeIndex -> {
+            Node node = nodes.get(nodeIndex);
+            return node.code != null ? codeScorer.score(node.code) : similarity(query, nodeIndex);
+        };
+    }
+
+    private double similarity(float[] query, int nodeIndex) {
+        Node node = nodes.get(nodeIndex);
+        if (node.vector != null) {
+            return VectorOps.dot(query, node.vector);
+        }
+        if (node.code != null) {
+            return quantizer.dot(query, node.code);
+        }
+        return VectorOps.dot(query, mappedVectors, node.mappedOrdinal * dimension * Float.BYTES);
+    }
+
+    // 원본 벡터 우선 (힙 → 매핑된 파일), 둘 다 없으면 코드 복원값
+    private float[] vectorOf(Node node) {
+        if (node.vector != null) {
+            return node.vector;
+        }
+        if (node.mappedOrdinal >= 0) {
+            float[] vector = new float[dimension];
+            int offset = node.mappedOrdinal * dimension * Float.BYTES;
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = mappedVectors.getFloat(offset + i * Float.BYTES);
+            }
+            return vector;
+        }
+        return quantizer.decode(node.code);
+    }
+
+    @FunctionalInterface
+    private interface NodeScorer {
+        double score(int nodeIndex);
+    }
+
+    private record Candidate(int node, double similarity) {
+        static final Comparator<Candidate> BY_SIMILARITY_ASC = Comparator.comparingDouble(Candidate::similarity);
+        static final Comparator<Candidate> BY_SIMILARITY_DESC = BY_SIMILARITY_ASC.reversed();
+    }
+
+    private static final class Node {
+        private final long id;
+        private float[] vector;
+        private byte[] code;
+        private final int mappedOrdinal;
+        private final int level;
+        private final int[][] links;
+        private final int[] linkCounts;
+        private boolean deleted;
+        // 매핑된 벡터가 원본이 아닌 양자화 코드 복원값
+        private boolean approximate;
+
+        private Node(long id, float[] vector, byte[] code, int mappedOrdinal, int level, int m, int maxLinksLevel0) {
+            this(id, vector, code, mappedOrdinal, level);
+            for (int l = 0; l <= level; l++) {
+                // 정리 전 잠시 초과할 수 있으므로 한 칸 여유
+                links[l] = new int[(l == 0 ? maxLinksLevel0 : m) + 1];
+            }
+        }
+
+        private Node(long id, float[] vector, byte[] code, int mappedOrdinal, int level) {
+            this.id = id;
+            this.vector = vector;
+            this.code = code;
+            this.mappedOrdinal = mappedOrdinal;
+            this.level = level;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+        }
+
+        // 스냅샷 노드: 벡터는 매핑된 버퍼의 ordinal 위치에 있음
+        private static Node mapped(long id, int ordinal, int[][] levelLinks, int m, int maxLinksLevel0) {
+            Node node = new Node(id, null, null, ordinal, levelLinks.length - 1);
+            for (int l = 0; l < levelLinks.length; l++) {
+                int capacity = Math.max(l == 0 ? maxLinksLevel0 : m, levelLinks[l].length) + 1;
+                node.links[l] = Arrays.copyOf(levelLinks[l], capacity);
+                node.linkCounts[l] = levelLinks[l].length;
+            }
+            return node;
+        }
+
+        private int linkCount(int level) {
+            return linkCounts[level];
+        }
+
+        private void addLink(int level, int target) {
+            links[level][linkCounts[level]++] = target;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.mentoai.mentoai.service.vector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * HNSW 인덱스 스냅샷 파일 형식 (리틀 엔디언)
+ * [헤더][노드 ID][노드 플래그][레벨별 링크][패딩][정규화 벡터 float × dimension × nodeCount]
+ * 노드 플래그: 1 = 삭제됨, 2 = 원본 없이 양자화 코드에서 복원한 근사 벡터 (버전 1은 삭제 여부만 기록)
+ * 벡터 영역은 FileChannel.map으로 매핑하여 힙에 올리지 않고 바로 읽는다.
+ */
+final class HnswSnapshot {
+
+    private static final int MAGIC = 0x424D454D; // "MEMB"
+    private static final int VERSION = 2;
+    private static final int FLAG_DELETED = 1;
+    private static final int FLAG_APPROXIMATE = 2;
+    private static final int VECTOR_ALIGNMENT = 64;
+
+    private HnswSnapshot() {
+    }
+
+    record Graph(
+            String model,
+            long createdAtMillis,
+            int dimension,
+            int entryPoint,
+            int maxLevel,
+            long[] ids,
+            boolean[] deleted,
+            boolean[] approximate,
+            int[][][] links,
+            ByteBuffer vectors
+    ) {
+    }
+
+    /**
+     * 임시 파일에 기록 후 원자적으로 교체 (기존 파일을 매핑 중인 인덱스는 영향 없음)
+     */
+    static void write(Path path, Graph graph, IntFunction<float[]> vectorOf) throws IOException {
+        byte[] model = graph.model().getBytes(StandardCharsets.UTF_8);
+        int nodeCount = graph.ids().length;
+
+        long metadataSize = 4L + 4 + 4 + model.length + 4 + 4 + 4 + 4 + 8 + 8
+                + 8L * nodeCount + nodeCount;
+        for (int[][] levels : graph.links()) {
+            metadataSize += 4;
+            for (int[] links : levels) {
+                metadataSize += 4 + 4L * links.length;
+            }
+        }
+        long vectorsOffset = align(metadataSize);
+        if (vectorsOffset > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot metadata too large: " + vectorsOffset);
+        }
+
+        ByteBuffer metadata = ByteBuffer.allocate((int) vectorsOffset).order(ByteOrder.LITTLE_ENDIAN);
+        metadata.putInt(MAGIC).putInt(VERSION);
+        metadata.putInt(model.length).put(model);
+        metadata.putInt(graph.dimension()).putInt(nodeCount).putInt(graph.entryPoint()).putInt(graph.maxLevel());
+        metadata.putLong(graph.createdAtMillis()).putLong(vectorsOffset);
+        for (long id : graph.ids()) {
+            metadata.putLong(id);
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            metadata.put((byte) ((graph.deleted()[i] ? FLAG_DELETED : 0) | (graph.approximate()[i] ? FLAG_APPROXIMATE : 0)));
+        }
+        for (int[][] levels : graph.links()) {
+            metadata.putInt(levels.length);
+            for (int[] links : levels) {
+                metadata.putInt(links.length);
+                for (int link : links) {
+                    metadata.putInt(link);
+                }
+            }
+        }
+        metadata.position(0).limit((int) vectorsOffset);
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, metadata);
+            ByteBuffer vectorBuffer = ByteBuffer.allocate(graph.dimension() * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < nodeCount; i++) {
+                vectorBuffer.clear();
+                vectorBuffer.asFloatBuffer().put(vectorOf.apply(i));
+                writeFully(channel, vectorBuffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 열기, 링크는 힙에 적재하고 벡터 영역은 매핑된 버퍼로 반환
+     */
+    static Graph read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not an activity vector snapshot: " + path);
+        }
+        int version = buffer.getInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        byte[] model = new byte[buffer.getInt()];
+        buffer.get(model);
+        int dimension = buffer.getInt();
+        int nodeCount = buffer.getInt();
+        int entryPoint = buffer.getInt();
+        int maxLevel = buffer.getInt();
+        long createdAtMillis = buffer.getLong();
+        long vectorsOffset = buffer.getLong();
+
+        long[] ids = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            ids[i] = buffer.getLong();
+        }
+        boolean[] deleted = new boolean[nodeCount];
+        boolean[] approximate = new boolean[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            int flags = buffer.get();
+            deleted[i] = (flags & FLAG_DELETED) != 0;
+            approximate[i] = (flags & FLAG_APPROXIMATE) != 0;
+        }
+        int[][][] links = new int[nodeCount][][];
+        for (int i = 0; i < nodeCount; i++) {
+            links[i] = new int[buffer.getInt()][];
+            for (int level = 0; level < links[i].length; level++) {
+                int[] levelLinks = new int[buffer.getInt()];
+                for (int j = 0; j < levelLinks.length; j++) {
+                    levelLinks[j] = buffer.getInt();
+                }
+                links[i][level] = levelLinks;
+            }
+        }
+
+        long vectorBytes = (long) nodeCount * dimension * Float.BYTES;
+        if (vectorsOffset + vectorBytes > buffer.capacity()) {
+            throw new IOException("Truncated snapshot: " + path);
+        }
+        ByteBuffer vectors = buffer.slice((int) vectorsOffset, (int) vectorBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        return new Graph(new String(model, StandardCharsets.UTF_8), createdAtMillis, dimension,
+                entryPoint, maxLevel, ids, deleted, approximate, links, vectors);
+    }
+
+    private static long align(long size) {
+        return (size + VECTOR_ALIGNMENT - 1) / VECTOR_ALIGNMENT * VECTOR_ALIGNMENT;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.rewind();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.mentoai.mentoai.service.vector;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 곱 양자화(PQ): 벡터를 subspaces개 구간으로 나누고 구간마다 최대 256개 중심점 중 하나의 번호로 저장
+ * 질의 시 구간별 중심점과의 내적 테이블을 미리 계산하여 코드당 subspaces번의 덧셈으로 점수를 낸다.
+ */
+public class ProductQuantizer implements VectorQuantizer {
+
+    private static final int MAX_CENTROIDS = 256;
+
+    private final int dimension;
+    private final int[] boundaries;
+    private final int centroidCount;
+    // [subspace][centroid * subDimension + i]
+    private final float[][] codebooks;
+
+    private ProductQuantizer(int dimension, int[] boundaries, int centroidCount, float[][] codebooks) {
+        this.dimension = dimension;
+        this.boundaries = boundaries;
+        this.centroidCount = centroidCount;
+        this.codebooks = codebooks;
+    }
+
+    /**
+     * 표본 벡터로 구간별 k-means 학습
+     */
+    public static ProductQuantizer train(List<float[]> sample, int subspaces, int iterations, long seed) {
+        if (sample == null || sample.isEmpty()) {
+            throw new IllegalArgumentException("PQ 학습용 표본 벡터가 없습니다.");
+        }
+        int dimension = sample.get(0).length;
+        if (subspaces < 1 || subspaces > dimension) {
+            throw new IllegalArgumentException("PQ 구간 수는 1 이상 차원 이하여야 합니다: " + subspaces);
+        }
+
+        int[] boundaries = new int[subspaces + 1];
+        for (int j = 0; j <= subspaces; j++) {
+            boundaries[j] = (int) ((long) dimension * j / subspaces);
+        }
+        int centroidCount = Math.min(MAX_CENTROIDS, sample.size());
+        SplittableRandom random = new SplittableRandom(seed);
+
+        float[][] codebooks = new float[subspaces][];
+        for (int j = 0; j < subspaces; j++) {
+            codebooks[j] = kMeans(sample, boundaries[j], boundaries[j + 1], centroidCount, iterations, random);
+        }
+        return new ProductQuantizer(dimension, boundaries, centroidCount, codebooks);
+    }
+
+    @Override
+    public byte[] encode(float[] vector) {
+        byte[] code = new byte[codebooks.length];
+        for (int j = 0; j < codebooks.length; j++) {
+            code[j] = (byte) nearestCentroid(codebooks[j], vector, boundaries[j], boundaries[j + 1], centroidCount);
+        }
+        return code;
+    }
+
+    @Override
+    public float[] decode(byte[] code) {
+        float[] vector = new float[dimension];
+        for (int j = 0; j < codebooks.length; j++) {
+            int subDimension = boundaries[j + 1] - boundaries[j];
+            System.arraycopy(codebooks[j], (code[j] & 0xFF) * subDimension, vector, boundaries[j], subDimension);
+        }
+        return vector;
+    }
+
+    @Override
+    public float dot(float[] query, byte[] code) {
+        float sum = 0f;
+        for (int j = 0; j < codebooks.length; j++) {
+            int from = boundaries[j];
+            int subDimension = boundaries[j + 1] - from;
+            int offset = (code[j] & 0xFF) * subDimension;
+            float[] codebook = codebooks[j];
+            for (int i = 0; i < subDimension; i++) {
+                sum += query[from + i] * codebook[offset + i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public CodeScorer prepare(float[] query) {
+        int subspaces = codebooks.length;
+        float[] table = new float[subspaces * MAX_CENTROIDS];
+        for (int j = 0; j < subspaces; j++) {
+            int from = boundaries[j];
+            int subDimension = boundaries[j + 1] - from;
+            float[] codebook = codebooks[j];
+            for (int c = 0; c < centroidCount; c++) {
+                float sum = 0f;
+                int offset = c * subDimension;
+                for (int i = 0; i < subDimension; i++) {
+                    sum += query[from + i] * codebook[offset + i];
+                }
+                table[j * MAX_CENTROIDS + c] = sum;
+            }
+        }
+        return code -> {
+            float sum = 0f;
+            for (int j = 0; j < subspaces; j++) {
+                sum += table[j * MAX_CENTROIDS + (code[j] & 0xFF)];
+            }
+            return sum;
+        };
+    }
+
+    @Override
+    public int bytesPerVector(int dimension) {
+        return codebooks.length;
+    }
+
+    private static float[] kMeans(List<float[]> sample, int from, int to, int k, int iterations, SplittableRandom random) {
+        int subDimension = to - from;
+        float[] centroids = new float[k * subDimension];
+
+        // 서로 다른 표본으로 초기화
+        int[] order = new int[sample.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            int swap = i + random.nextInt(order.length - i);
+            int temp = order[i];
+            order[i] = order[swap];
+            order[swap] = temp;
+            System.arraycopy(sample.get(order[i]), from, centroids, i * subDimension, subDimension);
+        }
+
+        int[] assignments = new int[sample.size()];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int s = 0; s < sample.size(); s++) {
+                assignments[s] = nearestCentroid(centroids, sample.get(s), from, to, k);
+            }
+
+            float[] sums = new float[k * subDimension];
+            int[] counts = new int[k];
+            for (int s = 0; s < sample.size(); s++) {
+                float[] vector = sample.get(s);
+                int offset = assignments[s] * subDimension;
+                counts[assignments[s]]++;
+                for (int i = 0; i < subDimension; i++) {
+                    sums[offset + i] += vector[from + i];
+                }
+            }
+            for (int c = 0; c < k; c++) {
+                // 빈 군집은 이전 중심점 유지
+                if (counts[c] == 0) {
+                    continue;
+                }
+                for (int i = 0; i < subDimension; i++) {
+                    centroids[c * subDimension + i] = sums[c * subDimension + i] / counts[c];
+                }
+            }
+        }
+        return centroids;
+    }
+
+    private static int nearestCentroid(float[] centroids, float[] vector, int from, int to, int k) {
+        int subDimension = to - from;
+        int best = 0;
+        float bestDistance = Float.MAX_VALUE;
+        for (int c = 0; c < k; c++) {
+            int offset = c * subDimension;
+            float distance = 0f;
+            for (int i = 0; i < subDimension; i++) {
+                float diff = vector[from + i] - centroids[offset + i];
+                distance += diff * diff;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mentoai.mentoai.service.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * int8 스칼라 양자화 (벡터별 스케일)
+ * 코드 형식: [scale float 4바이트][차원별 int8]
+ */
+public class ScalarQuantizer implements VectorQuantizer {
+
+    private static final int HEADER_BYTES = Float.BYTES;
+
+    @Override
+    public byte[] encode(float[] vector) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs == 0f ? 1f : maxAbs / 127f;
+
+        byte[] code = new byte[HEADER_BYTES + vector.length];
+        ByteBuffer.wrap(code).order(ByteOrder.LITTLE_ENDIAN).putFloat(scale);
+        for (int i = 0; i < vector.length; i++) {
+            code[HEADER_BYTES + i] = (byte) Math.round(vector[i] / scale);
+        }
+        return code;
+    }
+
+    @Override
+    public float[] decode(byte[] code) {
+        float scale = scaleOf(code);
+        float[] vector = new float[code.length - HEADER_BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = code[HEADER_BYTES + i] * scale;
+        }
+        return vector;
+    }
+
+    @Override
+    public float dot(float[] query, byte[] code) {
+        int length = Math.min(query.length, code.length - HEADER_BYTES);
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            sum0 += query[i] * code[HEADER_BYTES + i];
+            sum1 += query[i + 1] * code[HEADER_BYTES + i + 1];
+            sum2 += query[i + 2] * code[HEADER_BYTES + i + 2];
+            sum3 += query[i + 3] * code[HEADER_BYTES + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += query[i] * code[HEADER_BYTES + i];
+        }
+        return ((sum0 + sum1) + (sum2 + sum3)) * scaleOf(code);
+    }
+
+    /**
+     * 질의도 int8로 양자화하여 정수 내적으로 비교 (코드마다 float 변환을 피함)
+     */
+    @Override
+    public CodeScorer prepare(float[] query) {
+        byte[] queryCode = encode(query);
+        float queryScale = scaleOf(queryCode);
+        return code -> {
+            int length = Math.min(queryCode.length, code.length);
+            int sum = 0;
+            for (int i = HEADER_BYTES; i < length; i++) {
+                sum += queryCode[i] * code[i];
+            }
+            return sum * queryScale * scaleOf(code);
+        };
+    }
+
+    @Override
+    public int bytesPerVector(int dimension) {
+        return HEADER_BYTES + dimension;
+    }
+
+    private static float scaleOf(byte[] code) {
+        int bits = (code[0] & 0xFF) | (code[1] & 0xFF) << 8 | (code[2] & 0xFF) << 16 | (code[3] & 0xFF) << 24;
+        return Float.intBitsToFloat(bits);
+    }
+}
@@ -0,0 +1,107 @@
+package com.mentoai.mentoai.service.vector;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+
+/**
+ * float 벡터 내적 커널
+ * jdk.incubator.vector 모듈이 로드되어 있으면 SIMD 경로(simd 소스 세트의 SimdVectorOps)를, 아니면 스칼라 경로를 사용한다.
+ * SIMD 경로는 -Dmentoai.vector.simd=false 로 끌 수 있다.
+ */
+@Slf4j
+public final class VectorOps {
+
+    private static final String SIMD_KERNEL = "com.mentoai.mentoai.service.vector.SimdVectorOps";
+
+    // SIMD 사용 불가면 null
+    private static final Kernel SIMD = loadSimd();
+
+    /**
+     * 내적 구현 (SIMD 구현을 컴파일 시점에 참조하지 않도록 분리)
+     */
+    interface Kernel {
+
+        float dot(float[] a, float[] b);
+
+        float dot(float[] a, ByteBuffer b, int byteOffset);
+
+        int lanes();
+    }
+
+    private VectorOps() {
+    }
+
+    public static float dot(float[] a, float[] b) {
+        return SIMD != null ? SIMD.dot(a, b) : dotScalar(a, b);
+    }
+
+    /**
+     * 매핑된 버퍼(리틀 엔디언)의 byteOffset 위치부터 a.length개 float와의 내적
+     */
+    public static float dot(float[] a, ByteBuffer b, int byteOffset) {
+        return SIMD != null ? SIMD.dot(a, b, byteOffset) : dotScalar(a, b, byteOffset);
+    }
+
+    public static float dotScalar(float[] a, ByteBuffer b, int byteOffset) {
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+        int i = 0;
+        for (; i + 3 < a.length; i += 4) {
+            int offset = byteOffset + i * Float.BYTES;
+            sum0 += a[i] * b.getFloat(offset);
+            sum1 += a[i + 1] * b.getFloat(offset + Float.BYTES);
+            sum2 += a[i + 2] * b.getFloat(offset + 2 * Float.BYTES);
+            sum3 += a[i + 3] * b.getFloat(offset + 3 * Float.BYTES);
+        }
+        for (; i < a.length; i++) {
+            sum0 += a[i] * b.getFloat(byteOffset + i * Float.BYTES);
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    public static float dotScalar(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+        int i = 0;
+        // 독립된 누산기 4개로 루프 의존성을 줄임
+        for (; i + 3 < length; i += 4) {
+            sum0 += a[i] * b[i];
+            sum1 += a[i + 1] * b[i + 1];
+            sum2 += a[i + 2] * b[i + 2];
+            sum3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[i] * b[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    public static boolean isSimdEnabled() {
+        return SIMD != null;
+    }
+
+    private static Kernel loadSimd() {
+        if (!Boolean.parseBoolean(System.getProperty("mentoai.vector.simd", "true"))) {
+            return null;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            log.info("jdk.incubator.vector module not loaded, using scalar dot product");
+            return null;
+        }
+        try {
+            Kernel kernel = (Kernel) Class.forName(SIMD_KERNEL).getDeclaredConstructor().newInstance();
+            kernel.dot(new float[]{1f}, new float[]{1f});
+            log.info("Using SIMD dot product ({} lanes)", kernel.lanes());
+            return kernel;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.info("SIMD dot product unavailable, using scalar path: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mentoai.mentoai.service.vector;
+
+/**
+ * 정규화된 벡터를 byte 코드로 압축하는 양자화기
+ * 코드 위의 내적은 근사값이므로 상위 후보는 원본 벡터로 재정렬해야 한다.
+ */
+public interface VectorQuantizer {
+
+    byte[] encode(float[] vector);
+
+    float[] decode(byte[] code);
+
+    /**
+     * 원본 질의 벡터와 코드의 근사 내적
+     */
+    float dot(float[] query, byte[] code);
+
+    /**
+     * 한 질의로 많은 코드를 비교할 때 사용하는 점수 계산기 (PQ는 조회 테이블을 미리 계산)
+     */
+    default CodeScorer prepare(float[] query) {
+        return code -> dot(query, code);
+    }
+
+    int bytesPerVector(int dimension);
+
+    @FunctionalInterface
+    interface CodeScorer {
+        float score(byte[] code);
+    }
+}
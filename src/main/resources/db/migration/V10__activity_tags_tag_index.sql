@@ -0,0 +1,2 @@
+-- 사용자 맞춤 순위 쿼리에서 관심 태그 → 활동 조인용 (기존 유니크 인덱스는 activity_id 선두)
+CREATE INDEX IF NOT EXISTS "idx_activity_tags_tag_id" ON "activity_tags" ("tag_id", "activity_id");
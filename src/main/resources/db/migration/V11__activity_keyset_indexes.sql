@@ -0,0 +1,3 @@
+-- 커서 기반 목록(/activities/scroll)의 (정렬 키, activity_id) 행 비교용 복합 인덱스
+CREATE INDEX IF NOT EXISTS "idx_activities_created_at_id" ON "activities" ("created_at", "activity_id");
+CREATE INDEX IF NOT EXISTS "idx_activities_title_id" ON "activities" ("title", "activity_id");
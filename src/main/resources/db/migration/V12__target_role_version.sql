@@ -0,0 +1,2 @@
+-- 목표 직무 변경 버전 (스킬 목록 포함 변경 시 증가, 컴파일된 직무 스킬 인덱스 캐시 키)
+ALTER TABLE "target_roles" ADD COLUMN IF NOT EXISTS "role_version" bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- 사용자 프로필 변경 버전 (프로필 저장 시 증가, RoleFit 결과 캐시 키)
+ALTER TABLE "user_profiles" ADD COLUMN IF NOT EXISTS "profile_version" bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- 활동별 임베딩 벡터 저장소 (검색 시 쿼리만 임베딩하도록)
+CREATE TABLE IF NOT EXISTS "activity_embeddings" (
+  "activity_id" bigint PRIMARY KEY,
+  "content_hash" varchar(64) NOT NULL,
+  "model" text NOT NULL,
+  "dimension" int NOT NULL,
+  "vector" real[] NOT NULL,
+  "updated_at" timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS "idx_activity_embeddings_updated_at" ON "activity_embeddings" ("updated_at");
+
+ALTER TABLE "activity_embeddings" ADD FOREIGN KEY ("activity_id") REFERENCES "activities" ("activity_id") ON DELETE CASCADE;
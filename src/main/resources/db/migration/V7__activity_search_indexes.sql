@@ -0,0 +1,15 @@
+-- /activities?q= 검색용 전문 검색(tsvector) 및 제목 부분 일치(pg_trgm) 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 한국어 사전이 없어 simple 구성으로 어절 단위 색인, 제목(A) > 요약(B) > 내용(C) 가중치
+ALTER TABLE "activities" ADD COLUMN IF NOT EXISTS "search_vector" tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce("title", '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce("summary", '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce("content", '')), 'C')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS "idx_activities_search_vector" ON "activities" USING GIN ("search_vector");
+CREATE INDEX IF NOT EXISTS "idx_activities_title_trgm" ON "activities" USING GIN ("title" gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS "idx_activity_dates_activity_id" ON "activity_dates" ("activity_id");
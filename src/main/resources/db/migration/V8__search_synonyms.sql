@@ -0,0 +1,17 @@
+-- 검색어 확장용 동의어 사전 (대표어 → 동의어, 변경 후 주기적으로 다시 읽음)
+CREATE TABLE IF NOT EXISTS "search_synonyms" (
+  "synonym_id" bigserial PRIMARY KEY,
+  "term" text NOT NULL,
+  "synonym" text NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS "uq_search_synonyms" ON "search_synonyms" ("term", "synonym");
+
+INSERT INTO "search_synonyms" ("term", "synonym") VALUES
+  ('개발', '프로그래밍'), ('개발', '코딩'), ('개발', '소프트웨어'),
+  ('디자인', 'UI'), ('디자인', 'UX'), ('디자인', '그래픽'),
+  ('마케팅', '홍보'), ('마케팅', '광고'), ('마케팅', '브랜딩'),
+  ('스터디', '공부'), ('스터디', '학습'), ('스터디', '연구'),
+  ('취업', '채용'), ('취업', '구직'), ('취업', '인턴'),
+  ('창업', '스타트업'), ('창업', '사업'), ('창업', '비즈니스')
+ON CONFLICT DO NOTHING;
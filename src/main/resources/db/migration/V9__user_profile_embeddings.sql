@@ -0,0 +1,13 @@
+-- 사용자별 프로필 임베딩 (목표 직무 + 관심사 태그, 프로필/관심사 변경 시 비동기 재계산)
+CREATE TABLE IF NOT EXISTS "user_profile_embeddings" (
+  "user_id" bigint PRIMARY KEY,
+  "target_role" text,
+  "content_hash" varchar(64) NOT NULL,
+  "model" text NOT NULL,
+  "dimension" int NOT NULL,
+  "vector" real[] NOT NULL,
+  "version" bigint NOT NULL DEFAULT 0,
+  "updated_at" timestamptz NOT NULL DEFAULT now()
+);
+
+ALTER TABLE "user_profile_embeddings" ADD FOREIGN KEY ("user_id") REFERENCES "users" ("user_id") ON DELETE CASCADE;
@@ -0,0 +1,61 @@
+package com.mentoai.mentoai.service.vector;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * jdk.incubator.vector 기반 내적 (VectorOps에서 모듈이 있을 때만 이름으로 로드)
+ * 인큐베이터 모듈 옵션이 이 클래스에만 필요하도록 simd 소스 세트에서 따로 컴파일한다.
+ */
+final class SimdVectorOps implements VectorOps.Kernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    SimdVectorOps() {
+    }
+
+    @Override
+    public float dot(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        int upperBound = SPECIES.loopBound(length);
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public float dot(float[] a, ByteBuffer b, int byteOffset) {
+        int length = a.length;
+        int upperBound = SPECIES.loopBound(length);
+        FloatVector acc = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromByteBuffer(SPECIES, b, byteOffset + i * Float.BYTES, ByteOrder.LITTLE_ENDIAN);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[i] * b.getFloat(byteOffset + i * Float.BYTES);
+        }
+        return sum;
+    }
+
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+}
@@ -0,0 +1,102 @@
+package com.mentoai.mentoai.repository;
+
+import com.mentoai.mentoai.controller.dto.ActivityResponse;
+import com.mentoai.mentoai.controller.mapper.ActivityMapper;
+import com.mentoai.mentoai.entity.ActivityDateEntity;
+import com.mentoai.mentoai.entity.ActivityEntity;
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
+import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
+import com.mentoai.mentoai.entity.ActivityTagEntity;
+import com.mentoai.mentoai.entity.ActivityTagId;
+import com.mentoai.mentoai.entity.AttachmentEntity;
+import com.mentoai.mentoai.entity.TagEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ActivityRepositoryBatchFetchTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> activityIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<TagEntity> tags = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tags.add(testEntityManager.persist(new TagEntity(null, "태그" + i, TagEntity.TagType.SKILL)));
+        }
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ActivityEntity activity = new ActivityEntity();
+            activity.setTitle("활동 " + i);
+            activity.setType(ActivityType.STUDY);
+            activity.setStatus(ActivityStatus.OPEN);
+            testEntityManager.persist(activity);
+            activityIds.add(activity.getId());
+
+            testEntityManager.persist(new ActivityDateEntity(
+                    null, activity, ActivityDateEntity.DateType.APPLY_END, LocalDateTime.now().plusDays(i)));
+            testEntityManager.persist(new ActivityDateEntity(
+                    null, activity, ActivityDateEntity.DateType.EVENT_START, LocalDateTime.now().plusDays(i + 7)));
+            testEntityManager.persist(new ActivityTagEntity(new ActivityTagId(), activity, tags.get(i % tags.size())));
+            testEntityManager.persist(new ActivityTagEntity(new ActivityTagId(), activity, tags.get((i + 1) % tags.size())));
+            testEntityManager.persist(new AttachmentEntity(
+                    null, activity, AttachmentEntity.FileType.PDF, "https://example.com/" + i + ".pdf", null, null));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("ID 목록 조회 후 응답 매핑 시 페이지당 쿼리 수 고정 테스트")
+    void findAllById_MapsPageInFixedStatements() {
+        // Given
+        Statistics statistics = statistics();
+
+        // When
+        List<ActivityResponse> responses = activityRepository.findAllById(activityIds).stream()
+                .map(ActivityMapper::toResponse)
+                .toList();
+
+        // Then
+        assertEquals(PAGE_SIZE, responses.size());
+        assertTrue(responses.stream().allMatch(response ->
+                response.dates().size() == 2 && response.tags().size() == 2 && response.attachments().size() == 1));
+        // 활동 1 + 일정 1 + 활동-태그 1 + 태그 1 + 첨부 1
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,131 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.ActivityEmbeddingEntity;
+import com.mentoai.mentoai.entity.ActivityEntity;
+import com.mentoai.mentoai.repository.ActivityEmbeddingRepository;
+import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.service.vector.Embedding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ActivityEmbeddingServiceTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private ActivityEmbeddingRepository activityEmbeddingRepository;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<ActivityEmbeddingEntity>> savedCaptor;
+
+    private ActivityEmbeddingService activityEmbeddingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        activityEmbeddingService = new ActivityEmbeddingService(activityRepository, activityEmbeddingRepository,
+                geminiService, new TransactionTemplate(transactionManager));
+        when(geminiService.getEmbeddingModel()).thenReturn("local/hash-ngram-4");
+    }
+
+    @Test
+    @DisplayName("내용 해시와 모델이 같은 활동은 임베딩 재계산 생략 테스트")
+    void refresh_SkipsUnchangedContent() {
+        // Given
+        List<Long> activityIds = List.of(1L, 2L);
+        when(activityRepository.findAllById(activityIds))
+                .thenReturn(List.of(activity(1L, "Spring 스터디"), activity(2L, "AI 공모전")));
+        when(activityEmbeddingRepository.findAllById(activityIds))
+                .thenReturn(List.of(storedEmbedding(1L, "Spring 스터디", "local/hash-ngram-4")));
+        when(geminiService.embedAll(List.of("AI 공모전"))).thenReturn(List.of(Embedding.of(new float[]{0, 1, 0, 0})));
+
+        // When
+        int updated = activityEmbeddingService.refresh(activityIds);
+
+        // Then
+        assertEquals(1, updated);
+        verify(geminiService).embedAll(List.of("AI 공모전"));
+        verify(activityEmbeddingRepository).saveAll(savedCaptor.capture());
+        assertEquals(List.of(2L), savedCaptor.getValue().stream().map(ActivityEmbeddingEntity::getActivityId).toList());
+    }
+
+    @Test
+    @DisplayName("내용이 같아도 임베딩 모델이 바뀌면 재계산 후 기존 행 갱신 테스트")
+    void refresh_ReembedsOnModelChange() {
+        // Given
+        List<Long> activityIds = List.of(1L);
+        ActivityEmbeddingEntity stored = storedEmbedding(1L, "Spring 스터디", "gemini/text-embedding-004");
+        when(activityRepository.findAllById(activityIds)).thenReturn(List.of(activity(1L, "Spring 스터디")));
+        when(activityEmbeddingRepository.findAllById(activityIds)).thenReturn(List.of(stored));
+        when(geminiService.embedAll(List.of("Spring 스터디"))).thenReturn(List.of(Embedding.of(new float[]{1, 0, 0, 0})));
+
+        // When
+        int updated = activityEmbeddingService.refresh(activityIds);
+
+        // Then
+        assertEquals(1, updated);
+        verify(activityEmbeddingRepository).saveAll(savedCaptor.capture());
+        assertSame(stored, savedCaptor.getValue().get(0));
+        assertEquals("local/hash-ngram-4", stored.getModel());
+        assertEquals(4, stored.getDimension());
+    }
+
+    @Test
+    @DisplayName("일괄 임베딩 중 일부가 실패하면 성공한 벡터만 저장 테스트")
+    void refresh_SavesOnlySucceededVectors() {
+        // Given
+        List<Long> activityIds = List.of(1L, 2L, 3L);
+        when(activityRepository.findAllById(activityIds)).thenReturn(List.of(
+                activity(1L, "Spring 스터디"), activity(2L, "AI 공모전"), activity(3L, "백엔드 인턴")));
+        when(activityEmbeddingRepository.findAllById(activityIds)).thenReturn(List.of());
+        when(geminiService.embedAll(anyList())).thenReturn(Arrays.asList(
+                Embedding.of(new float[]{1, 0, 0, 0}), null, Embedding.of(new float[]{0, 0, 1, 0})));
+
+        // When
+        int updated = activityEmbeddingService.refresh(activityIds);
+
+        // Then
+        assertEquals(2, updated);
+        verify(activityEmbeddingRepository).saveAll(savedCaptor.capture());
+        assertEquals(List.of(1L, 3L), savedCaptor.getValue().stream().map(ActivityEmbeddingEntity::getActivityId).toList());
+        assertEquals(ActivityEmbeddingService.contentHash("백엔드 인턴"), savedCaptor.getValue().get(1).getContentHash());
+    }
+
+    private static ActivityEntity activity(Long id, String title) {
+        ActivityEntity activity = new ActivityEntity();
+        activity.setId(id);
+        activity.setTitle(title);
+        return activity;
+    }
+
+    private static ActivityEmbeddingEntity storedEmbedding(Long activityId, String text, String model) {
+        ActivityEmbeddingEntity embedding = new ActivityEmbeddingEntity();
+        embedding.setActivityId(activityId);
+        embedding.setContentHash(ActivityEmbeddingService.contentHash(text));
+        embedding.setModel(model);
+        embedding.setDimension(4);
+        embedding.setVector(new float[]{1, 0, 0, 0});
+        return embedding;
+    }
+}
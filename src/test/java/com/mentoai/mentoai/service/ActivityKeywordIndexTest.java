@@ -0,0 +1,56 @@
+package com.mentoai.mentoai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ActivityKeywordIndexTest {
+
+    private ActivityKeywordIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new ActivityKeywordIndex(mock(ActivityKeywordDocumentService.class));
+        index.init();
+        index.upsert(List.of(
+                new ActivityKeywordIndex.ActivityDocument(1L, "백엔드 개발 인턴십", "서버 개발", "Spring Boot 실무", List.of("백엔드")),
+                new ActivityKeywordIndex.ActivityDocument(2L, "디자인 공모전", "포스터", "백엔드 개발자도 참여 가능", List.of("디자인")),
+                new ActivityKeywordIndex.ActivityDocument(3L, "마케팅 서포터즈", null, null, List.of("마케팅"))
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("제목/태그 일치 활동이 본문 일치보다 높은 점수 테스트")
+    void search_TitleBoost() {
+        // When
+        List<ActivityKeywordIndex.SearchResult> results = index.search(List.of("백엔드 개발"), 10);
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).id());
+        assertTrue(results.get(0).score() > results.get(1).score());
+    }
+
+    @Test
+    @DisplayName("삭제된 활동은 검색되지 않음 테스트")
+    void remove_Success() {
+        // When
+        index.remove(List.of(1L));
+        List<ActivityKeywordIndex.SearchResult> results = index.search(List.of("백엔드"), 10);
+
+        // Then
+        assertEquals(1, results.size());
+        assertEquals(2L, results.get(0).id());
+    }
+}
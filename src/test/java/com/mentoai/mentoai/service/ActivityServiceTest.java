@@ -1,22 +1,30 @@
 package com.mentoai.mentoai.service;
 
+import com.mentoai.mentoai.controller.dto.ActivitySummaryResponse;
 import com.mentoai.mentoai.controller.dto.ActivityUpsertRequest;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityStatus;
+import com.mentoai.mentoai.entity.UserInterestEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
+import com.mentoai.mentoai.repository.ActivityScrollRepository;
 import com.mentoai.mentoai.repository.TagRepository;
+import com.mentoai.mentoai.repository.UserInterestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +44,15 @@ class ActivityServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserInterestRepository userInterestRepository;
+
+    @Mock
+    private ActivitySummaryService activitySummaryService;
+
     @InjectMocks
     private ActivityService activityService;
 
@@ -108,21 +125,115 @@ class ActivityServiceTest {
     @DisplayName("활동 목록 조회 테스트")
     void getActivities_Success() {
         // Given
-        List<ActivityEntity> activities = Arrays.asList(testActivity);
-        Page<ActivityEntity> page = new PageImpl<>(activities);
+        Page<Long> page = new PageImpl<>(List.of(1L));
         
-        when(activityRepository.search(
-                any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+        when(activityRepository.searchIds(
+                any(), any(), any(), any(), any(), any(), any(Pageable.class)))
                 .thenReturn(page);
+        when(activitySummaryService.findSummaries(List.of(1L))).thenReturn(List.of(summary(1L, "테스트 활동")));
 
         // When
-        Page<ActivityEntity> result = activityService.getActivities(
-            null, null, null, null, null, null, 0, 20, "createdAt", "desc");
+        Page<ActivitySummaryResponse> result = activityService.getActivities(
+            null, null, null, null, null, null, null, 0, 20, "createdAt", "desc");
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        assertEquals("테스트 활동", result.getContent().get(0).getTitle());
+        assertEquals("테스트 활동", result.getContent().get(0).title());
+        verify(activityRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("필터 없는 대량 목록은 count 쿼리 대신 통계 추정치 사용 테스트")
+    void getActivities_UnfilteredUsesEstimatedTotal() {
+        // Given
+        ReflectionTestUtils.setField(activityService, "approximateCountAbove", 10_000L);
+        when(activityRepository.estimateActivityCount()).thenReturn(250_000L);
+        when(activityRepository.searchIdSlice(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(1L), PageRequest.of(0, 1), true));
+        when(activitySummaryService.findSummaries(List.of(1L))).thenReturn(List.of(summary(1L, "테스트 활동")));
+
+        // When
+        Page<ActivitySummaryResponse> result = activityService.getActivities(
+            null, null, null, null, null, null, null, 0, 1, "createdAt", "desc");
+
+        // Then
+        assertEquals(250_000L, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        verify(activityRepository, never()).searchIds(any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 관련도 순으로 조회 테스트")
+    void getActivities_RankedByRelevance() {
+        // Given
+        when(activityRepository.searchRanked(
+                eq("백엔드 인턴"), eq("백엔드:* & 인턴:*"), eq("%백엔드 인턴%"),
+                any(), any(), any(), eq(false), any(), eq(20), eq(0L)))
+                .thenReturn(List.of(ranked(2L, 0.9), ranked(1L, 0.2)));
+        when(activityRepository.countRanked(any(), any(), any(), any(), any(), anyBoolean(), any()))
+                .thenReturn(2L);
+        when(activitySummaryService.findSummaries(List.of(2L, 1L)))
+                .thenReturn(List.of(summary(2L, "백엔드 인턴"), summary(1L, "테스트 활동")));
+
+        // When
+        Page<ActivitySummaryResponse> result = activityService.getActivities(
+            null, "백엔드 인턴", null, null, null, null, null, 0, 20, "createdAt", "desc");
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(ActivitySummaryResponse::activityId).toList());
+        verify(activityRepository, never()).searchIds(any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("사용자 맞춤 목록은 DB 순위 쿼리로 해당 페이지만 조회 테스트")
+    void getActivities_PersonalizedRankedInDatabase() {
+        // Given
+        when(userInterestRepository.findByUserIdOrderByScoreDesc(7L))
+                .thenReturn(List.of(new UserInterestEntity(1L, 7L, 10L, 5, null)));
+        when(activityRepository.searchPersonalized(
+                eq(7L), isNull(), eq("STUDY"), any(), any(), eq(false), any(), eq(5.0), eq(10), eq(10L)))
+                .thenReturn(List.of(ranked(2L, 57.0), ranked(1L, 7.0)));
+        when(activityRepository.countPersonalized(eq(7L), any(), any(), any(), any(), anyBoolean(), any(), anyDouble()))
+                .thenReturn(12L);
+        when(activitySummaryService.findSummaries(List.of(2L, 1L)))
+                .thenReturn(List.of(summary(2L, "백엔드 스터디"), summary(1L, "테스트 활동")));
+
+        // When
+        Page<ActivitySummaryResponse> result = activityService.getActivities(
+            7L, null, ActivityType.STUDY, null, null, null, null, 1, 10, "createdAt", "desc");
+
+        // Then
+        assertEquals(12, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(ActivitySummaryResponse::activityId).toList());
+        verify(activityRepository, never()).searchIds(any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 조회 시 다음 커서가 마지막 행 다음부터 이어지는지 테스트")
+    void scrollActivities_ContinuesFromCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        when(activityRepository.scroll(any(), eq(ActivityScrollRepository.SortKey.CREATED_AT), eq(true), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(
+                        new ActivityScrollRepository.KeysetRow(1L, createdAt),
+                        new ActivityScrollRepository.KeysetRow(3L, createdAt.minusDays(1))));
+        when(activitySummaryService.findSummaries(List.of(1L))).thenReturn(List.of(summary(1L, "테스트 활동")));
+
+        // When
+        ActivityService.ActivityScroll first = activityService.scrollActivities(
+                null, null, null, null, "createdAt", "desc", null, 1, false);
+        activityService.scrollActivities(null, null, null, null, "createdAt", "desc", first.nextCursor(), 1, false);
+
+        // Then
+        assertEquals(List.of(1L), first.items().stream().map(ActivitySummaryResponse::activityId).toList());
+        assertNull(first.totalElements());
+        verify(activityRepository).scroll(any(), eq(ActivityScrollRepository.SortKey.CREATED_AT), eq(true),
+                eq(createdAt), eq(1L), eq(2));
+        verify(activityRepository, never()).countByFilter(any());
+        assertThrows(IllegalArgumentException.class, () -> activityService.scrollActivities(
+                null, null, null, null, "title", "desc", first.nextCursor(), 1, false));
     }
 
     @Test
@@ -240,5 +351,23 @@ class ActivityServiceTest {
                 null
         );
     }
-}
 
+    private static ActivitySummaryResponse summary(Long activityId, String title) {
+        return new ActivitySummaryResponse(activityId, title, null, "STUDY", null, null, null, true, "OPEN",
+                null, null, List.of(), List.of());
+    }
+
+    private static ActivityRepository.RankedActivity ranked(Long activityId, double rank) {
+        return new ActivityRepository.RankedActivity() {
+            @Override
+            public Long getActivityId() {
+                return activityId;
+            }
+
+            @Override
+            public Double getRank() {
+                return rank;
+            }
+        };
+    }
+}
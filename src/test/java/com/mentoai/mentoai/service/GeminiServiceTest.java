@@ -0,0 +1,106 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.service.vector.Embedding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GeminiServiceTest {
+
+    private LanguageModelProvider provider;
+    private GeminiService geminiService;
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        provider = mock(LanguageModelProvider.class);
+        geminiService = new GeminiService(provider, mock(QueryEmbeddingCache.class));
+        ReflectionTestUtils.setField(geminiService, "batchMaxItems", 4);
+        ReflectionTestUtils.setField(geminiService, "batchMaxBytes", 20);
+    }
+
+    @Test
+    @DisplayName("항목 수와 본문 크기 한도로 묶음 분할, 빈 텍스트는 요청하지 않음")
+    void embedAll_ChunksByItemsAndBytes() throws Exception {
+        // Given
+        answerWithVectors();
+        List<String> texts = List.of("a", "b", "", "c", "d", "e", "0123456789", "0123456789", "f");
+
+        // When
+        List<Embedding> result = geminiService.embedAll(texts);
+
+        // Then
+        assertEquals(List.of(4, 2, 2), batchSizes);
+        assertNull(result.get(2));
+        assertEquals(8, result.stream().filter(embedding -> embedding != null).count());
+    }
+
+    @Test
+    @DisplayName("요청 내용 오류(400)면 반으로 나누어 실패 항목만 제외")
+    void embedAll_SplitsOnBadRequest() throws Exception {
+        // Given
+        when(provider.embedBatch(anyList())).thenAnswer(invocation -> {
+            List<String> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            if (batch.contains("bad")) {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            }
+            return vectors(batch.size());
+        });
+
+        // When
+        List<Embedding> result = geminiService.embedAll(List.of("a", "bad", "c", "d"));
+
+        // Then
+        assertNotNull(result.get(0));
+        assertNull(result.get(1));
+        assertNotNull(result.get(2));
+        assertNotNull(result.get(3));
+        assertEquals(List.of(4, 2, 1, 1, 2), batchSizes);
+    }
+
+    @Test
+    @DisplayName("할당량 초과(429)나 서버 오류(5xx)는 나누지 않고 남은 묶음도 중단")
+    void embedAll_DoesNotSplitOnTransientErrors() throws Exception {
+        // Given
+        when(provider.embedBatch(anyList()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        List<String> texts = IntStream.range(0, 12).mapToObj(i -> "t" + i).toList();
+
+        // When
+        List<Embedding> result = geminiService.embedAll(texts);
+
+        // Then
+        verify(provider, times(1)).embedBatch(anyList());
+        assertTrue(result.stream().allMatch(embedding -> embedding == null));
+    }
+
+    private void answerWithVectors() throws Exception {
+        when(provider.embedBatch(anyList())).thenAnswer(invocation -> {
+            List<String> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return vectors(batch.size());
+        });
+    }
+
+    private static List<float[]> vectors(int count) {
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            vectors.add(new float[]{1f, (float) i});
+        }
+        return vectors;
+    }
+}
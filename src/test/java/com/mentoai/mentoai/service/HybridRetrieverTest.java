@@ -0,0 +1,64 @@
+package com.mentoai.mentoai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HybridRetrieverTest {
+
+    private final StageExecutor stageExecutor = new StageExecutor(4, 16);
+    private final HybridRetriever retriever = new HybridRetriever(stageExecutor);
+
+    @AfterEach
+    void tearDown() {
+        stageExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("양쪽 경로에 모두 있는 항목이 RRF 상위 테스트")
+    void reciprocalRankFusion_Success() {
+        // When
+        Map<Long, Double> fused = HybridRetriever.reciprocalRankFusion(List.of(
+                List.of(1L, 2L, 3L),
+                List.of(3L, 4L, 1L)
+        ), 60);
+
+        // Then
+        assertEquals(List.of(1L, 3L, 2L, 4L), List.copyOf(fused.keySet()));
+        assertEquals(1.0 / 61 + 1.0 / 63, fused.get(1L), 1e-12);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 경로는 제외하고 반환, 늦은 경로는 인터럽트 테스트")
+    void run_SlowLegDropped() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        HybridRetriever.Leg fast = new HybridRetriever.Leg("fast", () -> List.of(1L, 2L), Duration.ofMillis(500));
+        HybridRetriever.Leg slow = new HybridRetriever.Leg("slow", () -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return List.of(3L);
+        }, Duration.ofMillis(100));
+
+        // When
+        long startedAt = System.currentTimeMillis();
+        List<List<Long>> rankings = retriever.run(List.of(fast, slow), Duration.ofMillis(500));
+
+        // Then
+        assertTrue(System.currentTimeMillis() - startedAt < 1000);
+        assertEquals(List.of(List.of(1L, 2L), List.of()), rankings);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,61 @@
+package com.mentoai.mentoai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentoai.mentoai.service.vector.Embedding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalLanguageModelProviderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LocalLanguageModelProvider provider = new LocalLanguageModelProvider(objectMapper);
+
+    @Test
+    @DisplayName("같은 텍스트는 같은 임베딩, 관련 텍스트가 더 유사 테스트")
+    void embed_Deterministic() {
+        // When
+        Embedding first = Embedding.of(provider.embed("Spring Boot 백엔드 인턴"));
+        Embedding second = Embedding.of(provider.embed("Spring Boot 백엔드 인턴"));
+        Embedding related = Embedding.of(provider.embed("백엔드 Spring 개발자 인턴십"));
+        Embedding unrelated = Embedding.of(provider.embed("디자인 공모전 포스터"));
+
+        // Then
+        assertEquals(768, first.dimension());
+        assertEquals(1.0, first.similarity(second), 1e-6);
+        assertTrue(first.similarity(related) > first.similarity(unrelated));
+    }
+
+    @Test
+    @DisplayName("추천 프롬프트에 items/activityIndex/score/reason JSON 반환 테스트")
+    void generateText_RecommendationJson() throws Exception {
+        // Given
+        String prompt = """
+                === 사용자 질의 ===
+                백엔드 Spring 인턴
+
+                === 후보 활동 목록 ===
+                [1] 디자인 공모전
+                   태그: 디자인
+
+                [2] Spring 백엔드 인턴십
+                   태그: 백엔드, Spring
+
+                [3] 마케팅 서포터즈
+
+                === 요청사항 ===
+                위 정보를 바탕으로 사용자에게 가장 적합한 활동 2개를 추천하고, 각 추천에 대해 구체적인 이유를 설명해주세요.
+                """;
+
+        // When
+        JsonNode items = objectMapper.readTree(provider.generateText(prompt, null)).path("items");
+
+        // Then
+        assertEquals(2, items.size());
+        assertEquals(2, items.get(0).path("activityIndex").asInt());
+        assertTrue(items.get(0).path("score").asDouble() >= items.get(1).path("score").asDouble());
+        assertFalse(items.get(0).path("reason").asText().isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.service.vector.Embedding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryEmbeddingCacheTest {
+
+    @Test
+    @DisplayName("정규화된 텍스트가 같으면 임베딩 재사용 테스트")
+    void get_NormalizedTextHit() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(meterRegistry, 100, Duration.ofMinutes(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        Embedding first = cache.get("model-a", "백엔드  인턴", text -> {
+            calls.incrementAndGet();
+            return Embedding.of(new float[]{1f, 0f});
+        });
+        Embedding second = cache.get("model-a", " 백엔드 인턴 ", text -> {
+            calls.incrementAndGet();
+            return Embedding.of(new float[]{0f, 1f});
+        });
+
+        // Then
+        assertEquals(1, calls.get());
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 별도로 캐시 테스트")
+    void get_DifferentModelMiss() {
+        // Given
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        cache.get("model-a", "공모전", text -> {
+            calls.incrementAndGet();
+            return Embedding.of(new float[]{1f, 0f});
+        });
+        cache.get("model-b", "공모전", text -> {
+            calls.incrementAndGet();
+            return Embedding.of(new float[]{1f, 0f});
+        });
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+}
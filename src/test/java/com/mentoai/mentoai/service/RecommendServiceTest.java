@@ -1,23 +1,32 @@
 package com.mentoai.mentoai.service;
 
+import com.mentoai.mentoai.controller.dto.ActivityRecommendationResponse;
 import com.mentoai.mentoai.entity.ActivityEntity;
 import com.mentoai.mentoai.entity.ActivityEntity.ActivityType;
 import com.mentoai.mentoai.entity.UserInterestEntity;
 import com.mentoai.mentoai.repository.ActivityRepository;
 import com.mentoai.mentoai.repository.UserInterestRepository;
 import com.mentoai.mentoai.repository.UserRepository;
+import com.mentoai.mentoai.service.vector.Embedding;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +43,39 @@ class RecommendServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ActivityKeywordIndex activityKeywordIndex;
+
+    @Mock
+    private SynonymDictionary synonymDictionary;
+
+    @Mock
+    private ActivityCatalog activityCatalog;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private RoleFitService roleFitService;
+
+    @Mock
+    private ActivityEmbeddingService activityEmbeddingService;
+
+    @Mock
+    private ActivityEmbeddingIndexer activityEmbeddingIndexer;
+
+    @Mock
+    private UserProfileEmbeddingService userProfileEmbeddingService;
+
+    @Mock
+    private UserProfileEmbeddingIndexer userProfileEmbeddingIndexer;
+
+    @Spy
+    private StageExecutor stageExecutor = new StageExecutor(2, 8);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private RecommendService recommendService;
 
@@ -57,6 +99,11 @@ class RecommendServiceTest {
         testInterest.setScore(5);
     }
 
+    @AfterEach
+    void tearDown() {
+        stageExecutor.shutdown();
+    }
+
     @Test
     @DisplayName("사용자 맞춤 추천 테스트 - 성공")
     void getRecommendations_Success() {
@@ -94,9 +141,14 @@ class RecommendServiceTest {
     @DisplayName("의미 기반 검색 테스트 - 성공")
     void semanticSearch_Success() {
         // Given
-        Page<ActivityEntity> page = new PageImpl<>(Arrays.asList(testActivity));
-        when(activityRepository.findByFilters(anyString(), any(), any(), any(), any(Pageable.class)))
-            .thenReturn(page);
+        ActivityRepository.RankedActivity hit = mock(ActivityRepository.RankedActivity.class);
+        when(hit.getActivityId()).thenReturn(1L);
+        when(synonymDictionary.expand("개발")).thenReturn(List.of("개발", "프로그래밍", "코딩"));
+        when(activityRepository.searchRanked(
+                eq("개발"), eq("(개발:*) | (프로그래밍:*) | (코딩:*)"), eq("%개발%"),
+                any(), any(), any(), eq(false), any(), anyInt(), anyLong()))
+            .thenReturn(List.of(hit));
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
 
         // When
         List<ActivityEntity> results = recommendService.semanticSearch("개발", 5, null);
@@ -104,6 +156,8 @@ class RecommendServiceTest {
         // Then
         assertNotNull(results);
         assertFalse(results.isEmpty());
+        verify(activityRepository, times(1)).searchRanked(
+                any(), any(), any(), any(), any(), any(), anyBoolean(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -160,29 +214,62 @@ class RecommendServiceTest {
             recommendService.getSimilarActivities(999L, 5);
         });
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    @Test
+    @DisplayName("점수 포함 추천 - 마감 시각을 넘긴 RoleFit 단계는 제외하고 임베딩/관심사 가중치로 계산")
+    void getRecommendationsWithScores_RoleFitDeadlineFallback() {
+        // Given
+        ReflectionTestUtils.setField(recommendService, "withScoresDeadlineMs", 100L);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userInterestRepository.findByUserIdOrderByScoreDesc(1L)).thenReturn(List.of(testInterest));
+        when(activityRepository.findByFilters(any(), any(), any(), any(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testActivity)));
+        when(roleFitService.calculateRoleFit(eq(1L), any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return null;
+        });
+        when(activityEmbeddingService.findEmbeddings(List.of(1L)))
+            .thenReturn(Map.of(1L, Embedding.of(new float[]{1f, 0f})));
+        when(userProfileEmbeddingService.findEmbedding(1L, "backend")).thenReturn(Optional.of(
+            new UserProfileEmbeddingService.ProfileEmbedding(Embedding.of(new float[]{1f, 0f}), "backend", 0L)));
 
+        // When
+        long startedAt = System.currentTimeMillis();
+        List<ActivityRecommendationResponse> results =
+            recommendService.getRecommendationsWithScores(1L, 10, null, null, "backend");
 
+        // Then
+        assertTrue(System.currentTimeMillis() - startedAt < 1000);
+        assertEquals(1, results.size());
+        assertNull(results.get(0).roleFitScore());
+        // 관심사 점수: STUDY 가산점 5 × 100, 임베딩 점수: 유사도 1 × 100
+        assertEquals(0.7 * 100 + 0.3 * 500, results.get(0).recommendationScore(), 1e-9);
+        assertEquals(2.0, results.get(0).expectedScoreIncrease());
+    }
 
+    @Test
+    @DisplayName("점수 포함 추천 - 목표 직무 없이 저장된 프로필 벡터가 없으면 프로필 직무 이름으로 저장 벡터와 같은 검색어 생성")
+    void getRecommendationsWithScores_NoRoleUsesProfileRoleQuery() {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userInterestRepository.findByUserIdOrderByScoreDesc(1L)).thenReturn(List.of(testInterest));
+        when(activityRepository.findByFilters(any(), any(), any(), any(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testActivity)));
+        when(activityEmbeddingService.findEmbeddings(List.of(1L)))
+            .thenReturn(Map.of(1L, Embedding.of(new float[]{1f, 0f})));
+        when(userProfileEmbeddingService.findEmbedding(1L, null)).thenReturn(Optional.empty());
+        when(userProfileEmbeddingService.findProfileTargetRole(1L)).thenReturn("백엔드 개발자");
+        when(userProfileEmbeddingService.buildQuery("백엔드 개발자", List.of(testInterest))).thenReturn("백엔드 개발자 Spring");
+        when(geminiService.embedQuery("백엔드 개발자 Spring")).thenReturn(Embedding.of(new float[]{1f, 0f}));
 
+        // When
+        List<ActivityRecommendationResponse> results =
+            recommendService.getRecommendationsWithScores(1L, 10, null, null, null);
 
+        // Then
+        assertEquals(1, results.size());
+        assertEquals(0.7 * 100 + 0.3 * 500, results.get(0).recommendationScore(), 1e-9);
+        verify(userProfileEmbeddingService, never()).buildQuery(isNull(), any());
+        verify(userProfileEmbeddingIndexer).refreshAsync(1L);
+    }
+}
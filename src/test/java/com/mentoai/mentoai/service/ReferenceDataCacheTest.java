@@ -0,0 +1,51 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TagEntity;
+import com.mentoai.mentoai.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    @Test
+    @DisplayName("캐시에 없는 태그만 조회하고 무효화 후 다시 적재 테스트")
+    void tagNames_LoadsMissingOnlyUntilInvalidated() {
+        // Given
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<TagEntity> tags = new ArrayList<>();
+            for (Long id : ids) {
+                if (id < 100) {
+                    tags.add(new TagEntity(id, "tag-" + id, TagEntity.TagType.SKILL));
+                }
+            }
+            return tags;
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReferenceDataCache cache = new ReferenceDataCache(tagRepository, meterRegistry, 100, Duration.ofMinutes(10));
+
+        // When
+        Map<Long, String> first = cache.tagNames(List.of(1L, 2L, 999L));
+        Map<Long, String> second = cache.tagNames(List.of(1L, 2L));
+        cache.invalidateTags();
+        cache.tagName(1L);
+
+        // Then
+        assertEquals(Map.of(1L, "tag-1", 2L, "tag-2"), first);
+        assertEquals(first, second);
+        verify(tagRepository, times(2)).findAllById(anyIterable());
+        assertEquals(2.0, meterRegistry.get("cache.gets")
+                .tag("cache", "tagName").tag("result", "hit").functionCounter().count());
+    }
+}
@@ -0,0 +1,56 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoleAliasIndexTest {
+
+    @Test
+    @DisplayName("roleId/이름/부분 일치/별칭 순으로 목표 직무 해석, 적재 후 DB 조회 없음")
+    void resolve_Success() {
+        // Given
+        TargetRoleRepository repository = mock(TargetRoleRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                role("backend", "Backend Engineer"),
+                role("data-engineer", "데이터 엔지니어"),
+                role("ai-ml", "Machine Learning Engineer")
+        ));
+        RoleAliasIndex index = new RoleAliasIndex(repository);
+        index.reload();
+
+        // When & Then
+        assertEquals("backend", index.resolve(" Backend "));
+        assertEquals("ai-ml", index.resolve("machine learning engineer"));
+        assertEquals("data-engineer", index.resolve("엔지니어"));
+        assertEquals("ai-ml", index.resolve("engineer"));
+        assertEquals("backend", index.resolve("백엔드 개발자"));
+        assertEquals("ai-ml", index.resolve("머신러닝 엔지니어"));
+        assertEquals("디자이너", index.resolve("디자이너"));
+        assertEquals("general", index.resolve(" "));
+        verify(repository, times(1)).findAll();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("여러 별칭이 포함되면 가장 앞의 별칭 사용")
+    void extractRoleKeyword_FirstAlias() {
+        // When & Then
+        assertEquals("frontend", RoleAliasIndex.extractRoleKeyword("프론트엔드 겸 백엔드"));
+        assertEquals("security", RoleAliasIndex.extractRoleKeyword("보안 엔지니어"));
+        assertNull(RoleAliasIndex.extractRoleKeyword("디자이너"));
+    }
+
+    private TargetRoleEntity role(String roleId, String name) {
+        TargetRoleEntity role = new TargetRoleEntity();
+        role.setRoleId(roleId);
+        role.setName(name);
+        return role;
+    }
+}
@@ -0,0 +1,144 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.controller.dto.RoleFitRequest;
+import com.mentoai.mentoai.controller.dto.RoleFitResponse;
+import com.mentoai.mentoai.entity.SkillLevel;
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.entity.UserEntity;
+import com.mentoai.mentoai.entity.UserProfileEntity;
+import com.mentoai.mentoai.entity.UserProfileSkill;
+import com.mentoai.mentoai.entity.WeightedSkill;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.repository.UserProfileRepository;
+import com.mentoai.mentoai.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoleFitServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private TargetRoleRepository targetRoleRepository;
+
+    @Mock
+    private RecommendService recommendService;
+
+    private RoleFitResultCache roleFitResultCache;
+
+    private RoleFitService roleFitService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        roleFitResultCache = new RoleFitResultCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(30));
+        roleFitService = new RoleFitService(userRepository, userProfileRepository, targetRoleRepository,
+                new RoleSkillIndex(), roleFitResultCache, new RoleAliasIndex(targetRoleRepository), recommendService);
+
+        UserProfileEntity profile = new UserProfileEntity();
+        profile.setUserId(1L);
+        profile.setProfileVersion(0L);
+        profile.setTechStack(new ArrayList<>(List.of(
+                new UserProfileSkill("Java", SkillLevel.ADVANCED),
+                new UserProfileSkill("Spring", SkillLevel.INTERMEDIATE))));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new UserEntity()));
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(profile));
+        when(targetRoleRepository.findAll()).thenReturn(List.of(
+                role("frontend", "프론트엔드", "react", "typescript"),
+                role("backend", "백엔드", "java", "spring"),
+                role("data", "데이터 분석", "python", "sql")));
+    }
+
+    @Test
+    @DisplayName("전체 직무 순위 - 적합도 내림차순 상위 N개와 세부 점수 반환")
+    void rankRoles_ReturnsTopNByScore() {
+        // When
+        List<RoleFitResponse> result = roleFitService.rankRoles(1L, 2);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("backend", result.get(0).target());
+        assertTrue(result.get(0).roleFitScore() >= result.get(1).roleFitScore());
+        assertTrue(result.get(0).breakdown().skillFit() > 0);
+        assertTrue(result.get(0).missingSkills().isEmpty());
+        // 프로필은 직무 수와 무관하게 한 번만 조회
+        verify(userProfileRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("전체 직무 순위 - 단일 직무 평가와 같은 점수")
+    void rankRoles_MatchesSingleRoleFit() {
+        // Given
+        TargetRoleEntity backend = role("backend", "백엔드", "java", "spring");
+        when(targetRoleRepository.findById("backend")).thenReturn(Optional.of(backend));
+
+        // When
+        RoleFitResponse ranked = roleFitService.rankRoles(1L, 1).get(0);
+        RoleFitResponse single = roleFitService.calculateRoleFit(1L, new RoleFitRequest("backend", null));
+
+        // Then
+        assertEquals(single, ranked);
+    }
+
+    @Test
+    @DisplayName("같은 프로필/직무 버전이면 캐시된 결과 재사용, 프로필 버전이 바뀌면 다시 계산")
+    void calculateRoleFit_CachedByProfileAndRoleVersion() {
+        // Given
+        TargetRoleEntity backend = role("backend", "백엔드", "java", "spring");
+        when(targetRoleRepository.findById("backend")).thenReturn(Optional.of(backend));
+        RoleFitRequest request = new RoleFitRequest("backend", null);
+
+        // When
+        RoleFitResponse first = roleFitService.calculateRoleFit(1L, request);
+        RoleFitResponse second = roleFitService.calculateRoleFit(1L, request);
+
+        UserProfileEntity updated = new UserProfileEntity();
+        updated.setUserId(1L);
+        updated.setProfileVersion(1L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(updated));
+        RoleFitResponse afterUpdate = roleFitService.calculateRoleFit(1L, request);
+
+        // Then
+        assertSame(first, second);
+        assertTrue(first.breakdown().skillFit() > 0);
+        assertEquals(0.0, afterUpdate.breakdown().skillFit());
+    }
+
+    @Test
+    @DisplayName("전체 직무 순위 - 범위를 벗어난 topN은 예외")
+    void rankRoles_InvalidTopN() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> roleFitService.rankRoles(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> roleFitService.rankRoles(1L, 51));
+    }
+
+    private TargetRoleEntity role(String roleId, String name, String... skills) {
+        TargetRoleEntity role = new TargetRoleEntity();
+        role.setRoleId(roleId);
+        role.setName(name);
+        role.setRoleVersion(0L);
+        List<WeightedSkill> required = new ArrayList<>();
+        for (String skill : skills) {
+            required.add(new WeightedSkill(skill, 1.0));
+        }
+        role.setRequiredSkills(required);
+        return role;
+    }
+}
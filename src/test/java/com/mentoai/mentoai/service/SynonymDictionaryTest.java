@@ -0,0 +1,35 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.SearchSynonymEntity;
+import com.mentoai.mentoai.repository.SearchSynonymRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SynonymDictionaryTest {
+
+    @Test
+    @DisplayName("대표어/동의어 포함 시 검색어 확장 테스트")
+    void expand_Success() {
+        // Given
+        SearchSynonymRepository repository = mock(SearchSynonymRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                new SearchSynonymEntity(1L, "개발", "프로그래밍"),
+                new SearchSynonymEntity(2L, "개발", "코딩"),
+                new SearchSynonymEntity(3L, "디자인", "UX")
+        ));
+        SynonymDictionary dictionary = new SynonymDictionary(repository);
+
+        // When
+        dictionary.reload();
+
+        // Then
+        assertEquals(List.of("백엔드 개발", "프로그래밍", "코딩"), dictionary.expand("백엔드 개발"));
+        assertEquals(List.of("ux 코딩 스터디", "디자인", "UX", "개발", "프로그래밍", "코딩"), dictionary.expand("ux 코딩 스터디"));
+        assertEquals(List.of("마케팅"), dictionary.expand("마케팅"));
+    }
+}
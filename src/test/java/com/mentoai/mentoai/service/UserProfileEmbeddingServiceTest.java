@@ -0,0 +1,171 @@
+package com.mentoai.mentoai.service;
+
+import com.mentoai.mentoai.entity.TargetRoleEntity;
+import com.mentoai.mentoai.entity.UserInterestEntity;
+import com.mentoai.mentoai.entity.UserProfileEmbeddingEntity;
+import com.mentoai.mentoai.entity.UserProfileEntity;
+import com.mentoai.mentoai.repository.TargetRoleRepository;
+import com.mentoai.mentoai.repository.UserInterestRepository;
+import com.mentoai.mentoai.repository.UserProfileEmbeddingRepository;
+import com.mentoai.mentoai.repository.UserProfileRepository;
+import com.mentoai.mentoai.service.vector.Embedding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserProfileEmbeddingServiceTest {
+
+    @Mock
+    private UserProfileEmbeddingRepository userProfileEmbeddingRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private TargetRoleRepository targetRoleRepository;
+
+    @Mock
+    private UserInterestRepository userInterestRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProfileEmbeddingService userProfileEmbeddingService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userProfileEmbeddingService = new UserProfileEmbeddingService(userProfileEmbeddingRepository,
+                userProfileRepository, targetRoleRepository, userInterestRepository, referenceDataCache,
+                geminiService, new TransactionTemplate(transactionManager));
+        when(geminiService.getEmbeddingModel()).thenReturn("local/hash-ngram-4");
+
+        UserProfileEntity profile = new UserProfileEntity();
+        profile.setTargetRoleId("backend");
+        TargetRoleEntity role = new TargetRoleEntity();
+        role.setRoleId("backend");
+        role.setName("백엔드");
+        UserInterestEntity interest = new UserInterestEntity();
+        interest.setUserId(1L);
+        interest.setTagId(10L);
+        interest.setScore(5);
+
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(profile));
+        when(targetRoleRepository.findById("backend")).thenReturn(Optional.of(role));
+        when(userInterestRepository.findByUserIdOrderByScoreDesc(1L)).thenReturn(List.of(interest));
+        when(referenceDataCache.tagNames(anyCollection())).thenReturn(Map.of(10L, "Spring"));
+    }
+
+    @Test
+    @DisplayName("프로필 임베딩 신규 계산 및 동일 입력 재계산 생략 테스트")
+    void refresh_SkipsUnchangedProfile() {
+        // Given
+        when(userProfileEmbeddingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(geminiService.embedQuery("백엔드 Spring")).thenReturn(Embedding.of(new float[]{1, 0, 0, 0}));
+
+        // When
+        boolean created = userProfileEmbeddingService.refresh(1L);
+
+        // Then
+        assertTrue(created);
+        verify(userProfileEmbeddingRepository).save(argThat(embedding ->
+                "백엔드".equals(embedding.getTargetRole()) && embedding.getDimension() == 4));
+
+        // Given
+        UserProfileEmbeddingEntity stored = storedEmbedding(ActivityEmbeddingService.contentHash("백엔드 Spring"));
+        when(userProfileEmbeddingRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        // When
+        boolean recomputed = userProfileEmbeddingService.refresh(1L);
+
+        // Then
+        assertFalse(recomputed);
+        verify(geminiService, times(1)).embedQuery(anyString());
+    }
+
+    @Test
+    @DisplayName("임베딩 요청은 읽기 트랜잭션 종료 후, 저장 트랜잭션 시작 전에 실행")
+    void refresh_EmbedsOutsideTransaction() {
+        // Given
+        when(userProfileEmbeddingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(geminiService.embedQuery("백엔드 Spring")).thenReturn(Embedding.of(new float[]{1, 0, 0, 0}));
+
+        // When
+        userProfileEmbeddingService.refresh(1L);
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, geminiService, userProfileEmbeddingRepository);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(geminiService).embedQuery("백엔드 Spring");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userProfileEmbeddingRepository).save(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("목표 직무 이름이 바뀌면 같은 관심사여도 프로필 임베딩 재계산 테스트")
+    void refresh_RecomputesOnRoleRename() {
+        // Given
+        UserProfileEmbeddingEntity stored = storedEmbedding(ActivityEmbeddingService.contentHash("백엔드 Spring"));
+        when(userProfileEmbeddingRepository.findById(1L)).thenReturn(Optional.of(stored));
+        TargetRoleEntity renamed = new TargetRoleEntity();
+        renamed.setRoleId("backend");
+        renamed.setName("백엔드 개발자");
+        when(targetRoleRepository.findById("backend")).thenReturn(Optional.of(renamed));
+        when(geminiService.embedQuery("백엔드 개발자 Spring")).thenReturn(Embedding.of(new float[]{0, 1, 0, 0}));
+
+        // When
+        boolean recomputed = userProfileEmbeddingService.refresh(1L);
+
+        // Then
+        assertTrue(recomputed);
+        assertEquals("백엔드 개발자", userProfileEmbeddingService.findProfileTargetRole(1L));
+        verify(userProfileEmbeddingRepository).save(argThat(embedding ->
+                "백엔드 개발자".equals(embedding.getTargetRole())
+                        && ActivityEmbeddingService.contentHash("백엔드 개발자 Spring").equals(embedding.getContentHash())));
+    }
+
+    @Test
+    @DisplayName("요청 직무가 저장된 직무와 다르면 프로필 임베딩 미사용 테스트")
+    void findEmbedding_MatchesTargetRole() {
+        // Given
+        when(userProfileEmbeddingRepository.findById(1L)).thenReturn(Optional.of(storedEmbedding("hash")));
+
+        // When & Then
+        assertTrue(userProfileEmbeddingService.findEmbedding(1L, null).isPresent());
+        assertTrue(userProfileEmbeddingService.findEmbedding(1L, " 백엔드 ").isPresent());
+        assertFalse(userProfileEmbeddingService.findEmbedding(1L, "프론트엔드").isPresent());
+        assertEquals(3L, userProfileEmbeddingService.findEmbedding(1L, null).get().version());
+    }
+
+    private static UserProfileEmbeddingEntity storedEmbedding(String contentHash) {
+        UserProfileEmbeddingEntity embedding = new UserProfileEmbeddingEntity();
+        embedding.setUserId(1L);
+        embedding.setTargetRole("백엔드");
+        embedding.setContentHash(contentHash);
+        embedding.setModel("local/hash-ngram-4");
+        embedding.setDimension(4);
+        embedding.setVector(new float[]{1, 0, 0, 0});
+        embedding.setVersion(3L);
+        return embedding;
+    }
+}
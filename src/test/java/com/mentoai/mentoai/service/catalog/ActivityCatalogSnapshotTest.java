@@ -0,0 +1,78 @@
+package com.mentoai.mentoai.service.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityCatalogSnapshotTest {
+
+    // 유형 순서값: JOB, CONTEST, STUDY, CAMPUS
+    private static final ActivityCatalogSnapshot.InterestScorer SCORER = new ActivityCatalogSnapshot.InterestScorer(
+            new long[]{10, 20}, new double[]{50.0, 30.0}, new double[]{0.0, 3.0, 5.0, 0.0}, 2.0);
+
+    @Test
+    @DisplayName("관심 태그 가중치와 가산점 기반 상위 K개 선택 테스트")
+    void topK_ScoresWholeCatalog() {
+        // Given
+        ActivityCatalogSnapshot snapshot = ActivityCatalogSnapshot.builder(4)
+                .add(1, 0, false, 0, true, new long[]{10})                                      // 50
+                .add(2, 2, true, 0, true, new long[]{10, 20})                                   // 87
+                .add(3, 0, false, 1, true, new long[]{30})                                      // 0 → 제외
+                .add(4, 1, false, 0, true, new long[]{20})                                      // 33
+                .add(5, 0, false, 0, false, new long[]{10})                                     // 50, 최신, 접수 마감 없이 다른 일정만 있음
+                .build();
+
+        // When
+        List<ActivityCatalogSnapshot.ScoredActivity> top = snapshot.topK(SCORER, ActivityCatalogSnapshot.Filter.NONE, 3);
+        List<ActivityCatalogSnapshot.ScoredActivity> jobsOnly = snapshot.topK(
+                SCORER, new ActivityCatalogSnapshot.Filter(0, false, ActivityCatalogSnapshot.ANY, false), 10);
+        List<ActivityCatalogSnapshot.ScoredActivity> listedJobs = snapshot.topK(
+                SCORER, new ActivityCatalogSnapshot.Filter(0, false, ActivityCatalogSnapshot.ANY, true), 10);
+
+        // Then
+        assertEquals(List.of(2L, 5L, 1L), top.stream().map(ActivityCatalogSnapshot.ScoredActivity::id).toList());
+        assertEquals(87.0, top.get(0).score(), 1e-9);
+        assertEquals(List.of(5L, 1L), jobsOnly.stream().map(ActivityCatalogSnapshot.ScoredActivity::id).toList());
+        assertEquals(List.of(1L), listedJobs.stream().map(ActivityCatalogSnapshot.ScoredActivity::id).toList());
+    }
+
+    @Test
+    @DisplayName("힙 기반 상위 K개와 전체 정렬 결과 일치 테스트")
+    void topK_MatchesFullSort() {
+        // Given
+        Random random = new Random(7);
+        ActivityCatalogSnapshot.Builder builder = ActivityCatalogSnapshot.builder(0);
+        List<double[]> expected = new ArrayList<>();
+        for (int id = 1; id <= 2000; id++) {
+            int type = random.nextInt(4);
+            boolean campus = random.nextBoolean();
+            long[] tags = random.longs(random.nextInt(4), 0, 40).distinct().sorted().toArray();
+            builder.add(id, type, campus, 0, true, tags);
+
+            double score = SCORER.typeBonus()[type] + (campus ? 2.0 : 0.0);
+            for (long tag : tags) {
+                score += tag == 10 ? 50.0 : tag == 20 ? 30.0 : 0.0;
+            }
+            if (score > 0) {
+                expected.add(new double[]{id, score});
+            }
+        }
+        expected.sort(Comparator.<double[]>comparingDouble(entry -> entry[1]).thenComparingDouble(entry -> entry[0]).reversed());
+
+        // When
+        List<ActivityCatalogSnapshot.ScoredActivity> top = builder.build().topK(SCORER, ActivityCatalogSnapshot.Filter.NONE, 25);
+
+        // Then
+        assertEquals(25, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals((long) expected.get(i)[0], top.get(i).id());
+            assertEquals(expected.get(i)[1], top.get(i).score(), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mentoai.mentoai.service.rolefit;
+
+import com.mentoai.mentoai.entity.SkillLevel;
+import com.mentoai.mentoai.entity.UserProfileSkill;
+import com.mentoai.mentoai.entity.WeightedSkill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledRoleSkillsTest {
+
+    @Test
+    @DisplayName("대소문자 무시 매칭과 coverage/cosine 계산 테스트")
+    void coverageAndCosine() {
+        // Given
+        SkillDictionary dictionary = new SkillDictionary();
+        CompiledRoleSkills role = CompiledRoleSkills.compile("backend", 3L,
+                List.of(new WeightedSkill("Java", 1.0), new WeightedSkill("Spring", 0.5), new WeightedSkill("SQL", 0.0)),
+                List.of(new WeightedSkill("java", 0.5), new WeightedSkill("Docker", 0.5)),
+                dictionary);
+        UserSkillVector user = UserSkillVector.of(List.of(
+                new UserProfileSkill("JAVA", SkillLevel.INTERMEDIATE),
+                new UserProfileSkill("java", SkillLevel.ADVANCED),
+                new UserProfileSkill("Figma", SkillLevel.EXPERT)), dictionary);
+
+        // When
+        double coverage = role.coverage(user);
+        double cosine = role.cosine(user);
+
+        // Then
+        // coverage = min(1.0, 1.0) / (1.0 + 0.5), 가중치 0인 SQL 제외
+        assertEquals(1.0 / 1.5, coverage, 1e-12);
+        // user = {java: 1.0, figma: 1.2}, target = {java: 1.5, spring: 0.5, sql: 0.0, docker: 0.5}
+        double expectedCosine = 1.5 / (Math.sqrt(1.0 + 1.44) * Math.sqrt(2.25 + 0.25 + 0.25));
+        assertEquals(expectedCosine, cosine, 1e-12);
+        assertEquals(List.of("java", "spring", "sql", "docker"), role.skillUniverse());
+        assertEquals(3L, role.version());
+    }
+
+    @Test
+    @DisplayName("직무에 없는 스킬만 가진 사용자는 0점 테스트")
+    void unknownSkillsOnly() {
+        // Given
+        SkillDictionary dictionary = new SkillDictionary();
+        CompiledRoleSkills role = CompiledRoleSkills.compile("frontend", 1L,
+                List.of(new WeightedSkill("React", 1.0)), List.of(), dictionary);
+        UserSkillVector user = UserSkillVector.of(List.of(new UserProfileSkill("Go", SkillLevel.EXPERT)), dictionary);
+
+        // When & Then
+        assertFalse(user.isEmpty());
+        assertEquals(0.0, role.coverage(user));
+        assertEquals(0.0, role.cosine(user));
+    }
+}
@@ -0,0 +1,240 @@
+package com.mentoai.mentoai.service.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswIndexTest {
+
+    @Test
+    @DisplayName("가장 유사한 벡터 검색 테스트")
+    void search_ReturnsNearestNeighbor() {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L);
+        Random random = new Random(7);
+        float[][] vectors = new float[500][16];
+        for (int i = 0; i < vectors.length; i++) {
+            for (int j = 0; j < 16; j++) {
+                vectors[i][j] = (float) random.nextGaussian();
+            }
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+
+        // When
+        List<HnswIndex.SearchResult> results = index.search(Embedding.of(vectors[123]), 5, 32);
+
+        // Then
+        assertEquals(5, results.size());
+        assertEquals(123L, results.get(0).id());
+        assertEquals(1.0, results.get(0).similarity(), 1e-4);
+    }
+
+    @Test
+    @DisplayName("삭제된 벡터는 검색 결과에서 제외 테스트")
+    void search_ExcludesRemoved() {
+        // Given
+        HnswIndex index = new HnswIndex(4, 16, 1L);
+        index.upsert(1L, Embedding.of(new float[]{1f, 0f}));
+        index.upsert(2L, Embedding.of(new float[]{0.9f, 0.1f}));
+        index.upsert(3L, Embedding.of(new float[]{0f, 1f}));
+
+        // When
+        index.remove(1L);
+        List<HnswIndex.SearchResult> results = index.search(Embedding.of(new float[]{1f, 0f}), 1, 16);
+
+        // Then
+        assertEquals(2, index.size());
+        assertEquals(1, results.size());
+        assertEquals(2L, results.get(0).id());
+    }
+
+    @Test
+    @DisplayName("벡터 차원 불일치 시 예외 발생 테스트")
+    void upsert_DimensionMismatch() {
+        // Given
+        HnswIndex index = new HnswIndex(4, 16, 1L);
+        index.upsert(1L, Embedding.of(new float[]{1f, 0f}));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> index.upsert(2L, Embedding.of(new float[]{1f, 0f, 0f})));
+    }
+
+    @Test
+    @DisplayName("스냅샷 기록 후 복원 시 같은 검색 결과, 삭제 상태 유지 및 복원 후 추가/교체 테스트")
+    void snapshot_RoundTrip(@TempDir Path tempDir) throws IOException {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L);
+        Random random = new Random(11);
+        float[][] vectors = new float[300][16];
+        for (int i = 0; i < vectors.length; i++) {
+            for (int j = 0; j < 16; j++) {
+                vectors[i][j] = (float) random.nextGaussian();
+            }
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+        index.remove(10L);
+        index.remove(20L);
+        Path path = tempDir.resolve("vectors.snap");
+
+        // When
+        index.writeSnapshot(path, "model-a");
+        HnswIndex restored = HnswIndex.openSnapshot(path, "model-a", 8, 64, 1L);
+
+        // Then
+        assertNotNull(restored.snapshotCreatedAt());
+        assertEquals(298, restored.size());
+        assertFalse(restored.contains(10L));
+        assertTrue(restored.contains(123L));
+        for (int probe : new int[]{0, 10, 123, 299}) {
+            Embedding query = Embedding.of(vectors[probe]);
+            assertEquals(index.search(query, 5, 32), restored.search(query, 5, 32));
+        }
+        assertTrue(restored.search(Embedding.of(vectors[20]), 5, 32).stream().noneMatch(result -> result.id() == 20L));
+
+        // When
+        float[] replaced = new float[16];
+        replaced[0] = 1f;
+        float[] added = new float[16];
+        added[1] = 1f;
+        restored.upsert(123L, Embedding.of(replaced));
+        restored.upsert(1000L, Embedding.of(added));
+
+        // Then
+        assertEquals(299, restored.size());
+        assertEquals(123L, restored.search(Embedding.of(replaced), 1, 32).get(0).id());
+        assertEquals(1000L, restored.search(Embedding.of(added), 1, 32).get(0).id());
+        assertNotEquals(123L, restored.search(Embedding.of(vectors[123]), 1, 32).get(0).id());
+    }
+
+    @Test
+    @DisplayName("임베딩 모델이 다른 스냅샷은 복원하지 않음 테스트")
+    void openSnapshot_ModelMismatch(@TempDir Path tempDir) throws IOException {
+        // Given
+        HnswIndex index = new HnswIndex(4, 16, 1L);
+        index.upsert(1L, Embedding.of(new float[]{1f, 0f}));
+        Path path = tempDir.resolve("vectors.snap");
+        index.writeSnapshot(path, "model-a");
+
+        // When & Then
+        assertThrows(IOException.class, () -> HnswIndex.openSnapshot(path, "model-b", 4, 16, 1L));
+    }
+
+    @Test
+    @DisplayName("삭제 비율이 높으면 압축 필요 표시, 압축한 새 인덱스는 살아있는 노드만 포함하고 기존 인덱스는 그대로 테스트")
+    void compact_RebuildsLiveNodesOffLock() {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L);
+        float[][] vectors = randomVectors(1200, 16, 13);
+        for (int i = 0; i < vectors.length; i++) {
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+        for (int i = 0; i < 400; i++) {
+            index.remove(i);
+        }
+
+        // When
+        HnswIndex compacted = index.compact();
+
+        // Then
+        assertTrue(index.needsCompaction());
+        assertFalse(compacted.needsCompaction());
+        assertEquals(800, index.size());
+        assertEquals(800, compacted.size());
+        assertEquals(500L, compacted.search(Embedding.of(vectors[500]), 1, 32).get(0).id());
+        assertTrue(compacted.search(Embedding.of(vectors[100]), 5, 32).stream().allMatch(result -> result.id() >= 400));
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 연 인덱스를 압축해도 벡터를 힙으로 복사하지 않음 테스트")
+    void compact_KeepsMappedVectors(@TempDir Path tempDir) throws IOException {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L);
+        float[][] vectors = randomVectors(1200, 16, 17);
+        for (int i = 0; i < vectors.length; i++) {
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+        Path path = tempDir.resolve("vectors.snap");
+        index.writeSnapshot(path, "model-a");
+        HnswIndex restored = HnswIndex.openSnapshot(path, "model-a", 8, 64, 1L);
+        for (int i = 0; i < 400; i++) {
+            restored.remove(i);
+        }
+
+        // When
+        HnswIndex compacted = restored.compact();
+
+        // Then
+        assertEquals(0.0, compacted.heapBytesPerVector());
+        assertEquals(800, compacted.size());
+        assertEquals(900L, compacted.search(Embedding.of(vectors[900]), 1, 32).get(0).id());
+    }
+
+    @Test
+    @DisplayName("양자화 인덱스의 스냅샷은 코드 복원 벡터를 근사로 표시하고, 원본으로 교체하면 표시 해제 테스트")
+    void snapshot_FlagsApproximateVectors(@TempDir Path tempDir) throws IOException {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L, new ScalarQuantizer());
+        float[][] vectors = randomVectors(200, 16, 19);
+        for (int i = 0; i < vectors.length; i++) {
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+        index.remove(5L);
+        Path path = tempDir.resolve("vectors.snap");
+
+        // When
+        index.writeSnapshot(path, "model-a");
+        HnswIndex restored = HnswIndex.openSnapshot(path, "model-a", 8, 64, 1L);
+        restored.upsert(7L, Embedding.of(vectors[7]));
+
+        // Then
+        List<Long> approximateIds = restored.approximateIds();
+        assertEquals(198, approximateIds.size());
+        assertFalse(approximateIds.contains(5L));
+        assertFalse(approximateIds.contains(7L));
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 연 인덱스에 양자화기를 지정하면 기존 노드도 코드로 바뀌고 원본 벡터로 스냅샷 기록 테스트")
+    void useQuantizer_EncodesSnapshotNodes(@TempDir Path tempDir) throws IOException {
+        // Given
+        HnswIndex index = new HnswIndex(8, 64, 1L);
+        float[][] vectors = randomVectors(300, 16, 23);
+        for (int i = 0; i < vectors.length; i++) {
+            index.upsert(i, Embedding.of(vectors[i]));
+        }
+        Path path = tempDir.resolve("vectors.snap");
+        index.writeSnapshot(path, "model-a");
+        HnswIndex restored = HnswIndex.openSnapshot(path, "model-a", 8, 64, 1L);
+        ScalarQuantizer quantizer = new ScalarQuantizer();
+
+        // When
+        restored.useQuantizer(quantizer);
+        Path rewritten = tempDir.resolve("rewritten.snap");
+        restored.writeSnapshot(rewritten, "model-a");
+
+        // Then
+        assertTrue(restored.isQuantized());
+        assertEquals((double) quantizer.bytesPerVector(16), restored.heapBytesPerVector());
+        assertEquals(150L, restored.search(Embedding.of(vectors[150]), 1, 32).get(0).id());
+        // 매핑된 원본을 그대로 기록하므로 근사 벡터가 아님
+        assertTrue(HnswIndex.openSnapshot(rewritten, "model-a", 8, 64, 1L).approximateIds().isEmpty());
+    }
+
+    private static float[][] randomVectors(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        float[][] vectors = new float[count][dimension];
+        for (float[] vector : vectors) {
+            for (int j = 0; j < dimension; j++) {
+                vector[j] = (float) random.nextGaussian();
+            }
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,81 @@
+package com.mentoai.mentoai.service.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorOpsTest {
+
+    // 레인 수(4/8/16)의 배수가 아닌 길이를 포함
+    private static final int[] LENGTHS = {1, 3, 7, 8, 15, 16, 17, 31, 33, 63, 64, 65, 100, 768, 3071};
+
+    @Test
+    @DisplayName("SIMD 내적과 스칼라 내적 결과 일치 테스트")
+    void dot_SimdMatchesScalar() {
+        assumeTrue(VectorOps.isSimdEnabled(), "jdk.incubator.vector 모듈 없이 실행됨");
+
+        // Given
+        Random random = new Random(3);
+        for (int length : LENGTHS) {
+            float[] a = randomVector(random, length);
+            float[] b = randomVector(random, length);
+
+            // When
+            float simd = VectorOps.dot(a, b);
+            float scalar = VectorOps.dotScalar(a, b);
+
+            // Then
+            assertEquals(scalar, simd, tolerance(a, b), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 버퍼 내적의 SIMD/스칼라 결과 및 배열 내적과 일치 테스트")
+    void dot_ByteBufferMatchesScalar() {
+        assumeTrue(VectorOps.isSimdEnabled(), "jdk.incubator.vector 모듈 없이 실행됨");
+
+        // Given
+        Random random = new Random(5);
+        for (int length : LENGTHS) {
+            float[] a = randomVector(random, length);
+            float[] b = randomVector(random, length);
+            // 스냅샷처럼 앞에 다른 데이터가 있는 리틀 엔디언 버퍼
+            int byteOffset = 12;
+            ByteBuffer buffer = ByteBuffer.allocate(byteOffset + length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < length; i++) {
+                buffer.putFloat(byteOffset + i * Float.BYTES, b[i]);
+            }
+
+            // When
+            float simd = VectorOps.dot(a, buffer, byteOffset);
+            float scalar = VectorOps.dotScalar(a, buffer, byteOffset);
+
+            // Then
+            assertEquals(scalar, simd, tolerance(a, b), "length " + length);
+            assertEquals(VectorOps.dotScalar(a, b), scalar, tolerance(a, b), "length " + length);
+        }
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    // 합산 순서 차이로 인한 float 오차 허용 범위
+    private static double tolerance(float[] a, float[] b) {
+        double magnitude = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            magnitude += Math.abs(a[i] * b[i]);
+        }
+        return 1e-5 * magnitude + 1e-6;
+    }
+}
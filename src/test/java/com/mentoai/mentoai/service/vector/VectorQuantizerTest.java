@@ -0,0 +1,61 @@
+package com.mentoai.mentoai.service.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorQuantizerTest {
+
+    @Test
+    @DisplayName("int8 양자화 내적 근사 오차 테스트")
+    void scalarQuantizer_ApproximatesDot() {
+        // Given
+        Random random = new Random(1);
+        float[] a = Embedding.of(randomVector(random, 768)).toArray();
+        float[] b = Embedding.of(randomVector(random, 768)).toArray();
+        ScalarQuantizer quantizer = new ScalarQuantizer();
+
+        // When
+        byte[] code = quantizer.encode(b);
+
+        // Then
+        float exact = VectorOps.dotScalar(a, b);
+        assertEquals(772, code.length);
+        assertEquals(exact, quantizer.dot(a, code), 0.01);
+        assertEquals(exact, quantizer.prepare(a).score(code), 0.01);
+    }
+
+    @Test
+    @DisplayName("PQ 조회 테이블 점수와 직접 내적 일치 테스트")
+    void productQuantizer_TableMatchesDirectDot() {
+        // Given
+        Random random = new Random(2);
+        List<float[]> sample = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            sample.add(Embedding.of(randomVector(random, 64)).toArray());
+        }
+        ProductQuantizer quantizer = ProductQuantizer.train(sample, 8, 4, 1L);
+        float[] query = sample.get(0);
+
+        // When
+        byte[] code = quantizer.encode(sample.get(1));
+
+        // Then
+        assertEquals(8, code.length);
+        assertEquals(quantizer.dot(query, code), quantizer.prepare(query).score(code), 1e-5);
+        assertEquals(64, quantizer.decode(code).length);
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}